@@ -0,0 +1,62 @@
+package jinviz.share_depot_be.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 백그라운드 작업 실행기 설정 (@Async 기본 실행기, 이미지 변환, 업로드 파일 정리)
+ * 전용 실행기를 빈으로 등록하면 스프링 부트가 기본 실행기를 만들지 않으므로, @Async 기본 실행기는 여기서 직접 등록한다.
+ * 가상 스레드 모드에서는 VirtualThreadConfig의 가상 스레드 실행기를 사용한다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * @Async 기본 실행기 (플랫폼 스레드 풀, spring.task.execution.* 설정 적용)
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "false", matchIfMissing = true)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * 이미지 변환 전용 실행기
+     * 스레드 수와 대기열을 제한하여 업로드가 몰려도 CPU/메모리 사용량이 일정하게 유지되도록 한다.
+     * 대기열이 가득 차면 작업을 거절하고, 변환본이 없는 이미지는 원본으로 응답한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor imageTaskExecutor(
+            @Value("${file.image.worker-threads:2}") int workerThreads,
+            @Value("${file.image.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 업로드 파일 정리 전용 실행기
+     * 정리 작업은 초당 확인 파일 수를 제한하므로 오래 걸릴 수 있어, 스케줄러 스레드를 점유하지 않도록 따로 실행한다.
+     * 스레드 하나에 대기열이 없으므로 이전 실행이 끝나지 않았으면 새 실행은 거절된다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor fileGcTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("file-gc-");
+        return executor;
+    }
+}
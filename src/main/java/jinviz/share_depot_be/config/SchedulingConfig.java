@@ -0,0 +1,12 @@
+package jinviz.share_depot_be.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 (카운터 보정 등 주기 작업)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
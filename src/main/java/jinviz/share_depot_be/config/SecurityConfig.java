@@ -42,6 +42,8 @@ public class SecurityConfig {
                         // 인증 관련 API는 모두 허용
                         .requestMatchers("/api/auth/**").permitAll()
 
+                        // 분할 업로드 세션은 사용자별로 관리하므로 인증 필요
+                        .requestMatchers("/api/files/uploads/**").authenticated()
                         // 정적 리소스 접근 허용
                         .requestMatchers("/api/files/**").permitAll()
                         .requestMatchers("/uploads/**", "/*.jpg", "/*.png", "/*.gif", "/*.jpeg").permitAll()
@@ -70,8 +72,11 @@ public class SecurityConfig {
 //        configuration.setAllowedOrigins(Arrays.asList("http://localhost:3000", "https://localhost:5500"));
         configuration.setAllowedOrigins(Arrays.asList("*"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "X-Requested-With"));
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "X-Requested-With",
+                "Range", "If-Range", "If-None-Match", "If-Modified-Since"));
+        // 파일 다운로드 재개와 캐시 검증에 필요한 응답 헤더 노출
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "ETag", "Last-Modified",
+                "Content-Range", "Accept-Ranges", "Content-Disposition"));
         configuration.setAllowCredentials(false);
         configuration.setMaxAge(3600L);
 
@@ -0,0 +1,54 @@
+package jinviz.share_depot_be.config;
+
+import jinviz.share_depot_be.storage.LocalStorageBackend;
+import jinviz.share_depot_be.storage.S3RequestSigner;
+import jinviz.share_depot_be.storage.S3StorageBackend;
+import jinviz.share_depot_be.storage.StorageBackend;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 업로드 파일 저장소 설정 (file.storage.backend: local, s3)
+ */
+@Configuration
+public class StorageConfig {
+
+    /**
+     * 로컬 디스크 저장소 (기본값)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "file.storage.backend", havingValue = "local", matchIfMissing = true)
+    public StorageBackend localStorageBackend(@Value("${file.upload.directory}") String uploadDir) {
+        return new LocalStorageBackend(Paths.get(uploadDir));
+    }
+
+    /**
+     * S3 호환 객체 저장소
+     * 업로드 임시 파일은 file.upload.directory에 기록한 뒤 저장소로 올린다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "file.storage.backend", havingValue = "s3")
+    public StorageBackend s3StorageBackend(
+            @Value("${file.upload.directory}") String uploadDir,
+            @Value("${file.storage.s3.endpoint}") String endpoint,
+            @Value("${file.storage.s3.bucket}") String bucket,
+            @Value("${file.storage.s3.region:us-east-1}") String region,
+            @Value("${file.storage.s3.access-key}") String accessKey,
+            @Value("${file.storage.s3.secret-key}") String secretKey,
+            @Value("${file.storage.s3.timeout-seconds:30}") long timeoutSeconds) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(timeoutSeconds))
+                .build();
+        return new S3StorageBackend(httpClient, URI.create(endpoint), bucket,
+                new S3RequestSigner(accessKey, secretKey, region),
+                Paths.get(uploadDir), Duration.ofSeconds(timeoutSeconds), Clock.systemUTC());
+    }
+}
@@ -0,0 +1,61 @@
+package jinviz.share_depot_be.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 가상 스레드 실행 모드 설정 (spring.threads.virtual.enabled=true)
+ * 스프링 부트가 Tomcat 요청 처리와 @Scheduled 작업을 가상 스레드로 실행하고, 여기서는 @Async 기본 실행기를
+ * 가상 스레드 실행기로 등록하며 JDBC 연결 동시 사용 제한과 가상 스레드 고정 진단을 추가한다.
+ * 이미지 변환 실행기(imageTaskExecutor)는 CPU 작업이므로 기존 고정 크기 플랫폼 스레드 풀을 그대로 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * @Async 기본 실행기 (작업마다 가상 스레드 생성)
+     * 이미지 변환 실행기와 별개이므로 @Async 작업이 몰려도 변환 대기열에는 영향이 없다.
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public SimpleAsyncTaskExecutor applicationTaskExecutor(SimpleAsyncTaskExecutorBuilder builder) {
+        return builder.virtualThreads(true).threadNamePrefix("async-").build();
+    }
+
+    /**
+     * DataSource를 JDBC 연결 제한 DataSource로 감쌈
+     * 허가 수는 커넥션 풀 크기와 같게 두어, 풀에 연결이 없을 때는 세마포어에서 순서대로 기다리게 한다.
+     */
+    @Bean
+    public static BeanPostProcessor connectionGatePostProcessor(
+            @Value("${jdbc.gate.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+            @Value("${jdbc.gate.acquire-timeout-ms:30000}") long acquireTimeoutMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionGateDataSource)) {
+                    return new ConnectionGateDataSource(dataSource, maxConcurrent, acquireTimeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 가상 스레드 고정 진단
+     */
+    @Bean
+    @ConditionalOnProperty(name = "thread.virtual.pinning-monitor.enabled", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${thread.virtual.pinning-monitor.threshold-ms:20}") long thresholdMillis) {
+        return new VirtualThreadPinningMonitor(Duration.ofMillis(thresholdMillis));
+    }
+}
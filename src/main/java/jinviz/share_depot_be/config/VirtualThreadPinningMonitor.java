@@ -0,0 +1,71 @@
+package jinviz.share_depot_be.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 진단
+ * synchronized 블록이나 네이티브 호출 안에서 가상 스레드가 블로킹되면 캐리어 스레드가 함께 묶인다. (JDK 21)
+ * JFR의 jdk.VirtualThreadPinned 이벤트를 구독해 기준 시간 이상 고정된 위치를 스택과 함께 기록한다.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    // 로그에 남길 스택 프레임 수
+    private static final int MAX_FRAMES = 12;
+
+    private final Duration threshold;
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::logPinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold={}ms)", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void logPinned(RecordedEvent event) {
+        // 가상 스레드는 보통 이름이 없으므로 스레드 ID로 기록
+        log.warn("Virtual thread pinned for {}ms (thread id={})\n{}",
+                event.getDuration().toMillis(),
+                event.getThread() == null ? -1 : event.getThread().getJavaThreadId(),
+                format(event.getStackTrace()));
+    }
+
+    private String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(no stack trace)";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+                .limit(MAX_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + "(line " + frame.getLineNumber() + ")")
+                .collect(Collectors.joining("\n"));
+    }
+}
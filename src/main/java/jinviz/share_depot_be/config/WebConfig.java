@@ -27,6 +27,8 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins("*")
                 .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("Authorization", "ETag", "Last-Modified", "Content-Range", "Accept-Ranges",
+                        "Content-Disposition")
                 .allowCredentials(false)
                 .maxAge(3600);
     }
@@ -3,6 +3,7 @@ package jinviz.share_depot_be.controller;
 import jinviz.share_depot_be.dto.ApiResponse;
 import jinviz.share_depot_be.dto.UserDTOs;
 import jinviz.share_depot_be.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -39,4 +40,15 @@ public class AuthController {
         UserDTOs.LoginResponse response = authService.login(request);
         return ResponseEntity.ok(ApiResponse.success(response, "login_success"));
     }
+
+    /**
+     * 로그아웃 API
+     * @param request HTTP 요청 (Authorization 헤더의 토큰을 폐기)
+     * @return 응답 메시지
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(HttpServletRequest request) {
+        authService.logout(request);
+        return ResponseEntity.ok(ApiResponse.success(null, "logout_success"));
+    }
 }
\ No newline at end of file
@@ -2,8 +2,11 @@ package jinviz.share_depot_be.controller;
 
 import jinviz.share_depot_be.dto.ApiResponse;
 import jinviz.share_depot_be.dto.CommentDTOs;
+import jinviz.share_depot_be.security.UserPrincipal;
 import jinviz.share_depot_be.service.CommentService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -11,7 +14,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -19,64 +22,86 @@ import java.util.List;
 @RestController
 @RequestMapping("/api/comments")
 @RequiredArgsConstructor
+@Validated
 public class CommentController {
 
+    // 한 번에 조회할 수 있는 최대 페이지 크기
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentService commentService;
 
     /**
      * 댓글 생성 API
      * @param postId 게시글 ID
-     * @param userDetails 인증된 사용자 정보
+     * @param principal 인증된 사용자 정보
      * @param request 댓글 생성 요청 DTO
      * @return 생성된 댓글 응답 DTO
      */
     @PostMapping("/{postId}")
     public ResponseEntity<ApiResponse<CommentDTOs.CommentResponse>> createComment(
             @PathVariable Integer postId,
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @Valid @RequestBody CommentDTOs.CommentCreateRequest request) {
-        CommentDTOs.CommentResponse comment = commentService.createComment(postId, userDetails.getUsername(), request);
+        CommentDTOs.CommentResponse comment = commentService.createComment(postId, principal.getUserId(), request);
         return ResponseEntity.ok(ApiResponse.success(comment, "comment_created"));
     }
 
     /**
      * 게시글별 댓글 목록 조회 API
+     * 작성순 처음 MAX_PAGE_SIZE개까지만 응답하며, 나머지는 커서 조회 API(after)로 받는다.
      * @param postId 게시글 ID
      * @return 댓글 응답 DTO 목록
      */
     @GetMapping("/{postId}")
     public ResponseEntity<ApiResponse<List<CommentDTOs.CommentResponse>>> getCommentsByPost(@PathVariable Integer postId) {
-        List<CommentDTOs.CommentResponse> comments = commentService.getCommentsByPost(postId);
+        List<CommentDTOs.CommentResponse> comments = commentService.getCommentsByPost(postId, MAX_PAGE_SIZE);
+        return ResponseEntity.ok(ApiResponse.success(comments));
+    }
+
+    /**
+     * 게시글별 댓글 목록 커서 조회 API
+     * after 파라미터가 있으면 전체 목록 대신 커서로 나누어 조회한다.
+     * @param postId 게시글 ID
+     * @param after 이전 응답의 nextCursor (첫 페이지는 빈 값)
+     * @param size 페이지 크기
+     * @return 댓글 커서 응답 DTO
+     */
+    @GetMapping(value = "/{postId}", params = "after")
+    public ResponseEntity<ApiResponse<CommentDTOs.CommentCursorResponse>> getCommentsByCursor(
+            @PathVariable Integer postId,
+            @RequestParam(defaultValue = "") String after,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        CommentDTOs.CommentCursorResponse comments = commentService.getCommentsByCursor(postId, after, size);
         return ResponseEntity.ok(ApiResponse.success(comments));
     }
 
     /**
      * 댓글 수정 API
      * @param commentId 댓글 ID
-     * @param userDetails 인증된 사용자 정보
+     * @param principal 인증된 사용자 정보
      * @param request 댓글 수정 요청 DTO
      * @return 수정된 댓글 응답 DTO
      */
     @PutMapping("/{commentId}")
     public ResponseEntity<ApiResponse<CommentDTOs.CommentResponse>> updateComment(
             @PathVariable Integer commentId,
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @Valid @RequestBody CommentDTOs.CommentUpdateRequest request) {
-        CommentDTOs.CommentResponse updatedComment = commentService.updateComment(commentId, userDetails.getUsername(), request);
+        CommentDTOs.CommentResponse updatedComment = commentService.updateComment(commentId, principal.getUserId(), request);
         return ResponseEntity.ok(ApiResponse.success(updatedComment, "comment_updated"));
     }
 
     /**
      * 댓글 삭제 API
      * @param commentId 댓글 ID
-     * @param userDetails 인증된 사용자 정보
+     * @param principal 인증된 사용자 정보
      * @return 응답 메시지
      */
     @DeleteMapping("/{commentId}")
     public ResponseEntity<ApiResponse<Void>> deleteComment(
             @PathVariable Integer commentId,
-            @AuthenticationPrincipal UserDetails userDetails) {
-        commentService.deleteComment(commentId, userDetails.getUsername());
+            @AuthenticationPrincipal UserPrincipal principal) {
+        commentService.deleteComment(commentId, principal.getUserId());
         return ResponseEntity.ok(ApiResponse.success(null, "comment_deleted"));
     }
 
@@ -90,8 +115,8 @@ public class CommentController {
     @GetMapping("/user/{userId}")
     public ResponseEntity<ApiResponse<Page<CommentDTOs.CommentResponse>>> getUserComments(
             @PathVariable Integer userId,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         Page<CommentDTOs.CommentResponse> comments = commentService.getUserComments(userId, pageable);
         return ResponseEntity.ok(ApiResponse.success(comments));
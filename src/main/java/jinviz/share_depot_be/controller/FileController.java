@@ -2,17 +2,37 @@ package jinviz.share_depot_be.controller;
 
 import jinviz.share_depot_be.dto.ApiResponse;
 import jinviz.share_depot_be.dto.FileDTO;
+import jinviz.share_depot_be.dto.UploadDTOs;
+import jinviz.share_depot_be.exception.CustomException;
+import jinviz.share_depot_be.exception.ErrorCode;
+import jinviz.share_depot_be.security.UserPrincipal;
 import jinviz.share_depot_be.service.FileService;
+import jinviz.share_depot_be.service.ImageVariantService;
+import jinviz.share_depot_be.service.UploadSessionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/files")
@@ -20,53 +40,215 @@ import java.util.List;
 public class FileController {
 
     private final FileService fileService;
+    private final UploadSessionService uploadSessionService;
 
     // 허용되는 이미지 파일 확장자
     private static final List<String> ALLOWED_IMAGE_EXTENSIONS = Arrays.asList("jpg", "jpeg", "png", "gif");
 
+    // 저장 파일은 바뀌지 않으므로 1년간 재검증 없이 캐시
+    private static final String IMMUTABLE_CACHE_CONTROL =
+            CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable().getHeaderValue();
+
+    // 변환본이 아직 없어 원본으로 대신 응답할 때는 곧 변환본으로 바뀌도록 짧게 캐시
+    private static final String FALLBACK_CACHE_CONTROL =
+            CacheControl.maxAge(60, TimeUnit.SECONDS).cachePublic().getHeaderValue();
+
     /**
      * 프로필 이미지 업로드 API
      * @param file 업로드할 이미지 파일
      * @return 파일 정보 DTO
      */
-    @PostMapping("/profile")
+    @PostMapping(value = "/profile", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<FileDTO>> uploadProfileImage(@RequestParam("file") MultipartFile file) {
         validateImageFile(file);
         FileDTO fileDTO = fileService.uploadFile(file, "profiles");
         return ResponseEntity.ok(ApiResponse.success(fileDTO));
     }
 
+    /**
+     * 프로필 이미지 업로드 API (요청 본문 스트림)
+     * 요청 본문 자체가 이미지이며, multipart 임시 파일 없이 한 번만 읽어 저장한다.
+     * @param filename 원본 파일명 (선택)
+     * @param request HTTP 요청
+     * @return 파일 정보 DTO
+     */
+    @PostMapping(value = "/profile", consumes = {
+            MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_GIF_VALUE,
+            MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ApiResponse<FileDTO>> uploadProfileImageStream(
+            @RequestParam(required = false) String filename,
+            HttpServletRequest request) {
+        FileDTO fileDTO = uploadStream(request, filename, "profiles");
+        return ResponseEntity.ok(ApiResponse.success(fileDTO));
+    }
+
     /**
      * 게시글 이미지 업로드 API
      * @param file 업로드할 이미지 파일
      * @return 파일 정보 DTO
      */
-    @PostMapping("/post")
+    @PostMapping(value = "/post", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<FileDTO>> uploadPostImage(@RequestParam("file") MultipartFile file) {
         validateImageFile(file);
         FileDTO fileDTO = fileService.uploadFile(file, "posts");
         return ResponseEntity.ok(ApiResponse.success(fileDTO));
     }
 
+    /**
+     * 게시글 이미지 업로드 API (요청 본문 스트림)
+     * 요청 본문 자체가 이미지이며, multipart 임시 파일 없이 한 번만 읽어 저장한다.
+     * @param filename 원본 파일명 (선택)
+     * @param request HTTP 요청
+     * @return 파일 정보 DTO
+     */
+    @PostMapping(value = "/post", consumes = {
+            MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_GIF_VALUE,
+            MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ApiResponse<FileDTO>> uploadPostImageStream(
+            @RequestParam(required = false) String filename,
+            HttpServletRequest request) {
+        FileDTO fileDTO = uploadStream(request, filename, "posts");
+        return ResponseEntity.ok(ApiResponse.success(fileDTO));
+    }
+
+    /**
+     * 분할 업로드 세션 생성 API
+     * @param principal 인증된 사용자 정보
+     * @param request 세션 생성 요청 DTO (하위 디렉토리, 원본 파일명, 전체 크기)
+     * @return 업로드 세션 정보 (청크 크기, 청크 수)
+     */
+    @PostMapping("/uploads")
+    public ResponseEntity<ApiResponse<UploadDTOs.UploadSessionResponse>> createUploadSession(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Valid @RequestBody UploadDTOs.UploadSessionCreateRequest request) {
+        UploadDTOs.UploadSessionResponse session = uploadSessionService.createSession(principal.getUserId(), request);
+        return ResponseEntity.ok(ApiResponse.success(session, "upload_session_created"));
+    }
+
+    /**
+     * 분할 업로드 청크 전송 API
+     * 요청 본문이 청크 내용이며, 같은 청크를 다시 보내도 같은 위치에 덮어쓴다.
+     * @param principal 인증된 사용자 정보
+     * @param uploadId 업로드 세션 ID
+     * @param index 청크 번호 (0부터 시작)
+     * @param offset 청크 시작 위치 (선택, index * chunkSize와 같아야 함)
+     * @param request HTTP 요청
+     * @return 업로드 세션 정보 (받은 구간)
+     */
+    @PutMapping("/uploads/{uploadId}/chunks/{index}")
+    public ResponseEntity<ApiResponse<UploadDTOs.UploadSessionResponse>> uploadChunk(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable String uploadId,
+            @PathVariable int index,
+            @RequestParam(required = false) Long offset,
+            HttpServletRequest request) {
+        try {
+            UploadDTOs.UploadSessionResponse session = uploadSessionService.writeChunk(
+                    principal.getUserId(), uploadId, index, offset, request.getInputStream(), request.getContentLengthLong());
+            return ResponseEntity.ok(ApiResponse.success(session));
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+    }
+
+    /**
+     * 분할 업로드 세션 조회 API (재개 시 받은 구간 확인)
+     * @param principal 인증된 사용자 정보
+     * @param uploadId 업로드 세션 ID
+     * @return 업로드 세션 정보 (받은 구간)
+     */
+    @GetMapping("/uploads/{uploadId}")
+    public ResponseEntity<ApiResponse<UploadDTOs.UploadSessionResponse>> getUploadSession(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable String uploadId) {
+        return ResponseEntity.ok(ApiResponse.success(uploadSessionService.getSession(principal.getUserId(), uploadId)));
+    }
+
+    /**
+     * 분할 업로드 완료 API
+     * @param principal 인증된 사용자 정보
+     * @param uploadId 업로드 세션 ID
+     * @return 파일 정보 DTO
+     */
+    @PostMapping("/uploads/{uploadId}/complete")
+    public ResponseEntity<ApiResponse<FileDTO>> completeUpload(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable String uploadId) {
+        return ResponseEntity.ok(ApiResponse.success(uploadSessionService.complete(principal.getUserId(), uploadId)));
+    }
+
     /**
      * 파일 다운로드 API
+     * 저장 파일명은 UUID라 내용이 바뀌지 않으므로 immutable 캐시 헤더를 보내고 (변환본 대신 원본으로 응답하면 짧은 캐시),
+     * If-None-Match/If-Modified-Since 조건부 요청에는 304, 단일 Range 요청에는 206으로 응답한다.
      * @param subDirectory 하위 디렉토리
      * @param filename 파일명
-     * @return 파일 리소스
+     * @param w 요청 이미지 너비 (생략 시 원본, 지정 시 그 이상인 가장 작은 변환본)
+     * @param request HTTP 요청
+     * @param response HTTP 응답
      */
     @GetMapping("/{subDirectory}/{filename:.+}")
-    public ResponseEntity<Resource> downloadFile(
+    public void downloadFile(
             @PathVariable String subDirectory,
-            @PathVariable String filename) {
-        Resource resource = fileService.downloadFile(subDirectory, filename);
+            @PathVariable String filename,
+            @RequestParam(required = false) Integer w,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        FileService.StoredFile file = fileService.getStoredFile(subDirectory, filename, w);
 
-        // 콘텐츠 타입 추측
-        String contentType = determineContentType(filename);
+        // 객체 저장소의 파일은 서명 URL로 보내 애플리케이션이 바이트를 중계하지 않음
+        Optional<URI> presignedUrl = fileService.presignedUrl(file);
+        if (presignedUrl.isPresent()) {
+            // 서명 URL은 만료되므로 리다이렉트 응답은 캐시하지 않음
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+            response.setStatus(HttpStatus.FOUND.value());
+            response.setHeader(HttpHeaders.LOCATION, presignedUrl.get().toString());
+            return;
+        }
+        String etag = "\"" + Long.toHexString(file.size()) + "-" + Long.toHexString(file.lastModified()) + "\"";
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
-                .body(resource);
+        boolean variantFallback = w != null && !ImageVariantService.isVariantName(file.key());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, variantFallback ? FALLBACK_CACHE_CONTROL : IMMUTABLE_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // 조건부 요청이면 304 (ETag, Last-Modified 헤더도 함께 설정됨)
+        if (new ServletWebRequest(request, response).checkNotModified(etag, file.lastModified())) {
+            return;
+        }
+
+        long start = 0;
+        long length = file.size();
+        List<HttpRange> ranges = parseRanges(request, etag, file.lastModified(), file.size());
+        if (ranges == null) {
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + file.size());
+            return;
+        }
+        // 여러 구간 요청은 multipart 응답 대신 전체 파일로 응답 (RFC 9110 허용)
+        if (ranges.size() == 1) {
+            start = ranges.get(0).getRangeStart(file.size());
+            length = ranges.get(0).getRangeEnd(file.size()) - start + 1;
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + start + "-" + (start + length - 1) + "/" + file.size());
+        }
+
+        response.setContentType(determineContentType(filename));
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.inline().filename(filename, StandardCharsets.UTF_8).build().toString());
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            response.setContentLengthLong(length);
+            return;
+        }
+
+        try {
+            fileService.transfer(file, start, length, request, response);
+        } catch (IOException e) {
+            // 이미 응답을 보내기 시작했다면 클라이언트가 연결을 끊은 경우이므로 무시
+            if (!response.isCommitted()) {
+                throw new CustomException(ErrorCode.FILE_DOWNLOAD_ERROR);
+            }
+        }
     }
 
     /**
@@ -83,6 +265,22 @@ public class FileController {
         return ResponseEntity.ok(ApiResponse.success(deleted, "file_deleted"));
     }
 
+    /**
+     * 요청 본문을 이미지 파일로 저장
+     * 형식과 크기 검사는 본문을 읽으면서 서비스에서 수행한다.
+     * @param request HTTP 요청
+     * @param filename 원본 파일명
+     * @param subDirectory 하위 디렉토리
+     * @return 파일 정보 DTO
+     */
+    private FileDTO uploadStream(HttpServletRequest request, String filename, String subDirectory) {
+        try {
+            return fileService.uploadStream(request.getInputStream(), request.getContentLengthLong(), filename, subDirectory);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+    }
+
     /**
      * 이미지 파일 유효성 검사
      * @param file 업로드할 파일
@@ -103,6 +301,63 @@ public class FileController {
         }
     }
 
+    /**
+     * Range 헤더 해석
+     * 형식이 잘못된 Range 헤더는 무시하고 전체 파일로 응답하며(RFC 9110), 416은 파일 범위를 벗어난 구간에만 보낸다.
+     * If-Range가 현재 ETag 또는 수정 시각과 일치하지 않으면 Range를 무시한다.
+     * @param request HTTP 요청
+     * @param etag 현재 파일 ETag
+     * @param lastModified 파일 수정 시각 (밀리초)
+     * @param fileSize 파일 크기
+     * @return 요청 구간 목록 (Range가 없거나 무시하면 빈 목록, 만족할 수 없는 구간이면 null)
+     */
+    private List<HttpRange> parseRanges(HttpServletRequest request, String etag, long lastModified, long fileSize) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || !matchesIfRange(request, etag, lastModified)) {
+            return List.of();
+        }
+
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+
+        try {
+            // 파일 범위를 벗어난 구간이면 IllegalArgumentException
+            ranges.forEach(range -> range.getRangeStart(fileSize));
+            return ranges;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * If-Range 조건 확인
+     * 엔티티 태그는 강한 비교로, HTTP 날짜는 초 단위로 정확히 같은 경우에만 일치로 본다.
+     * @param request HTTP 요청
+     * @param etag 현재 파일 ETag
+     * @param lastModified 파일 수정 시각 (밀리초)
+     * @return If-Range가 없거나 일치하면 true
+     */
+    private boolean matchesIfRange(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+
+        try {
+            long date = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return date == lastModified / 1000 * 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     /**
      * 파일 확장자에 따른 컨텐츠 타입 결정
      * @param filename 파일명
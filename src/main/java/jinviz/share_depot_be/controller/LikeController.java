@@ -2,13 +2,15 @@ package jinviz.share_depot_be.controller;
 
 import jinviz.share_depot_be.dto.ApiResponse;
 import jinviz.share_depot_be.dto.LikeDTOs;
+import jinviz.share_depot_be.security.UserPrincipal;
 import jinviz.share_depot_be.service.LikeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/posts")
 @RequiredArgsConstructor
@@ -16,17 +18,59 @@ public class LikeController {
 
     private final LikeService likeService;
 
+    /**
+     * 좋아요 상태 일괄 조회 API
+     * @param postIds 게시글 ID 목록 (예: postIds=1,2,3)
+     * @param principal 인증된 사용자 정보
+     * @return 게시글별 좋아요 여부
+     */
+    @GetMapping("/likes/status")
+    public ResponseEntity<ApiResponse<LikeDTOs.LikeStatusBatchResponse>> getLikeStatuses(
+            @RequestParam List<Integer> postIds,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        LikeDTOs.LikeStatusBatchResponse statuses = likeService.getLikeStatuses(postIds, principal.getUserId());
+        return ResponseEntity.ok(ApiResponse.success(statuses));
+    }
+
+    /**
+     * 좋아요 추가 API (멱등)
+     * @param postId 게시글 ID
+     * @param principal 인증된 사용자 정보
+     * @return 좋아요 응답 DTO
+     */
+    @PutMapping("/{postId}/like")
+    public ResponseEntity<ApiResponse<LikeDTOs.LikeResponse>> like(
+            @PathVariable Integer postId,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        LikeDTOs.LikeResponse likeResponse = likeService.like(postId, principal.getUserId());
+        return ResponseEntity.ok(ApiResponse.success(likeResponse));
+    }
+
+    /**
+     * 좋아요 취소 API (멱등)
+     * @param postId 게시글 ID
+     * @param principal 인증된 사용자 정보
+     * @return 좋아요 응답 DTO
+     */
+    @DeleteMapping("/{postId}/like")
+    public ResponseEntity<ApiResponse<LikeDTOs.LikeResponse>> unlike(
+            @PathVariable Integer postId,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        LikeDTOs.LikeResponse likeResponse = likeService.unlike(postId, principal.getUserId());
+        return ResponseEntity.ok(ApiResponse.success(likeResponse));
+    }
+
     /**
      * 좋아요 추가/취소 토글 API
      * @param postId 게시글 ID
-     * @param userDetails 인증된 사용자 정보
+     * @param principal 인증된 사용자 정보
      * @return 좋아요 응답 DTO
      */
     @PostMapping("/{postId}/like")
     public ResponseEntity<ApiResponse<LikeDTOs.LikeResponse>> toggleLike(
             @PathVariable Integer postId,
-            @AuthenticationPrincipal UserDetails userDetails) {
-        LikeDTOs.LikeResponse likeResponse = likeService.toggleLike(postId, userDetails.getUsername());
+            @AuthenticationPrincipal UserPrincipal principal) {
+        LikeDTOs.LikeResponse likeResponse = likeService.toggleLike(postId, principal.getUserId());
         return ResponseEntity.ok(ApiResponse.success(likeResponse));
     }
 }
\ No newline at end of file
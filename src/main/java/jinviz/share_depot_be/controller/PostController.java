@@ -2,22 +2,28 @@ package jinviz.share_depot_be.controller;
 
 import jinviz.share_depot_be.dto.ApiResponse;
 import jinviz.share_depot_be.dto.PostDTOs;
+import jinviz.share_depot_be.security.UserPrincipal;
 import jinviz.share_depot_be.service.PostService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping("/api/posts")
 @RequiredArgsConstructor
+@Validated
 public class PostController {
 
+    // 한 번에 조회할 수 있는 최대 페이지 크기
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostService postService;
 
     /**
@@ -28,13 +34,28 @@ public class PostController {
      */
     @GetMapping
     public ResponseEntity<ApiResponse<PostDTOs.PostListResponse>> getPosts(
-            @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        Pageable pageable = PageRequest.of(page -1, size, Sort.by("createdAt").descending());
+            @RequestParam(defaultValue = "1") @Min(1) int page,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        Pageable pageable = PageRequest.of(page -1, size);
         PostDTOs.PostListResponse posts = postService.getPosts(pageable);
         return ResponseEntity.ok(ApiResponse.success(posts));
     }
 
+    /**
+     * 게시글 목록 커서 조회 API
+     * after 파라미터가 있으면 페이지 번호 대신 커서로 조회한다.
+     * @param after 이전 응답의 nextCursor (첫 페이지는 빈 값)
+     * @param size 페이지 크기
+     * @return 게시글 커서 응답 DTO
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<ApiResponse<PostDTOs.PostCursorResponse>> getPostsByCursor(
+            @RequestParam(defaultValue = "") String after,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        PostDTOs.PostCursorResponse posts = postService.getPostsByCursor(after, size);
+        return ResponseEntity.ok(ApiResponse.success(posts));
+    }
+
     /**
      * 인기 게시글 목록 조회 API
      * @param page 페이지 번호 (0부터 시작)
@@ -43,13 +64,60 @@ public class PostController {
      */
     @GetMapping("/popular")
     public ResponseEntity<ApiResponse<PostDTOs.PostListResponse>> getPopularPosts(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("views").descending());
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        Pageable pageable = PageRequest.of(page, size);
         PostDTOs.PostListResponse posts = postService.getPopularPosts(pageable);
         return ResponseEntity.ok(ApiResponse.success(posts));
     }
 
+    /**
+     * 인기 게시글 목록 커서 조회 API
+     * after 파라미터가 있으면 페이지 번호 대신 커서로 조회한다.
+     * @param after 이전 응답의 nextCursor (첫 페이지는 빈 값)
+     * @param size 페이지 크기
+     * @return 게시글 커서 응답 DTO
+     */
+    @GetMapping(value = "/popular", params = "after")
+    public ResponseEntity<ApiResponse<PostDTOs.PostCursorResponse>> getPopularPostsByCursor(
+            @RequestParam(defaultValue = "") String after,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        PostDTOs.PostCursorResponse posts = postService.getPopularPostsByCursor(after, size);
+        return ResponseEntity.ok(ApiResponse.success(posts));
+    }
+
+    /**
+     * 트렌딩 게시글 목록 조회 API
+     * 조회수, 좋아요, 댓글을 시간 감쇠 가중합한 점수 순으로 조회한다.
+     * @param after 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 게시글 커서 응답 DTO
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<PostDTOs.PostCursorResponse>> getTrendingPosts(
+            @RequestParam(defaultValue = "") String after,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        PostDTOs.PostCursorResponse posts = postService.getTrendingPosts(after, size);
+        return ResponseEntity.ok(ApiResponse.success(posts));
+    }
+
+    /**
+     * 게시글 검색 API
+     * @param keyword 검색 키워드 (제목 + 내용)
+     * @param page 페이지 번호 (1부터 시작)
+     * @param size 페이지 크기
+     * @return 관련도순 게시글 목록 응답 DTO
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<PostDTOs.PostListResponse>> searchPosts(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "1") @Min(1) int page,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+        PostDTOs.PostListResponse posts = postService.searchPosts(keyword, pageable);
+        return ResponseEntity.ok(ApiResponse.success(posts));
+    }
+
     /**
      * 게시글 상세 조회 API
      * @param postId 게시글 ID
@@ -63,45 +131,45 @@ public class PostController {
 
     /**
      * 게시글 작성 API
-     * @param userDetails 인증된 사용자 정보
+     * @param principal 인증된 사용자 정보
      * @param request 게시글 생성 요청 DTO
      * @return 생성된 게시글 ID
      */
     @PostMapping
     public ResponseEntity<ApiResponse<Integer>> createPost(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @Valid @RequestBody PostDTOs.PostCreateRequest request) {
-        Integer postId = postService.createPost(userDetails.getUsername(), request);
+        Integer postId = postService.createPost(principal.getUserId(), request);
         return ResponseEntity.ok(ApiResponse.success(postId, "post_created"));
     }
 
     /**
      * 게시글 수정 API
      * @param postId 게시글 ID
-     * @param userDetails 인증된 사용자 정보
+     * @param principal 인증된 사용자 정보
      * @param request 게시글 수정 요청 DTO
      * @return 수정된 게시글 상세 응답 DTO
      */
     @PutMapping("/{postId}")
     public ResponseEntity<ApiResponse<PostDTOs.PostDetailResponse>> updatePost(
             @PathVariable Integer postId,
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @Valid @RequestBody PostDTOs.PostUpdateRequest request) {
-        PostDTOs.PostDetailResponse updatedPost = postService.updatePost(postId, userDetails.getUsername(), request);
+        PostDTOs.PostDetailResponse updatedPost = postService.updatePost(postId, principal.getUserId(), request);
         return ResponseEntity.ok(ApiResponse.success(updatedPost, "post_updated"));
     }
 
     /**
      * 게시글 삭제 API
      * @param postId 게시글 ID
-     * @param userDetails 인증된 사용자 정보
+     * @param principal 인증된 사용자 정보
      * @return 응답 메시지
      */
     @DeleteMapping("/{postId}")
     public ResponseEntity<ApiResponse<Void>> deletePost(
             @PathVariable Integer postId,
-            @AuthenticationPrincipal UserDetails userDetails) {
-        postService.deletePost(postId, userDetails.getUsername());
+            @AuthenticationPrincipal UserPrincipal principal) {
+        postService.deletePost(postId, principal.getUserId());
         return ResponseEntity.ok(ApiResponse.success(null, "post_deleted"));
     }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class CommentDTOs {
 
@@ -65,4 +66,15 @@ public class CommentDTOs {
                     .build();
         }
     }
+
+    // 댓글 목록 커서 페이징 응답 DTO
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CommentCursorResponse {
+        private List<CommentResponse> comments;
+        private String nextCursor;
+        private boolean hasNext;
+    }
 }
\ No newline at end of file
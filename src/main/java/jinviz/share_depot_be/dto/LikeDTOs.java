@@ -8,6 +8,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 public class LikeDTOs {
 
     // 좋아요 응답 DTO
@@ -29,4 +31,13 @@ public class LikeDTOs {
     public static class LikeStatusResponse {
         private boolean liked;
     }
+
+    // 좋아요 상태 일괄 조회 DTO (게시글 ID -> 좋아요 여부)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LikeStatusBatchResponse {
+        private Map<Integer, Boolean> liked;
+    }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package jinviz.share_depot_be.dto;
 
 import jinviz.share_depot_be.entity.Post;
 import jinviz.share_depot_be.entity.User;
+import jinviz.share_depot_be.repository.PostSummaryProjection;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -10,7 +11,6 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class PostDTOs {
 
@@ -37,6 +37,8 @@ public class PostDTOs {
                     .content(this.content)
                     .thumbnailImage(this.thumbnailImage)
                     .views(0)
+                    .likeCount(0)
+                    .commentCount(0)
                     .user(user)
                     .build();
         }
@@ -61,10 +63,13 @@ public class PostDTOs {
 
     // 게시글 요약 응답 DTO (목록 조회용)
     @Data
-    @Builder
+    @Builder(toBuilder = true)
     @NoArgsConstructor
     @AllArgsConstructor
     public static class PostSummaryResponse {
+        // 목록 썸네일 너비 (이미지 변환본 중 하나)
+        private static final int LIST_THUMBNAIL_WIDTH = 320;
+
         private Integer id;
         private String title;
         private UserDTOs.UserInfoResponse author;
@@ -84,14 +89,58 @@ public class PostDTOs {
                     .likes(post.getLikeCount())
                     .comments(post.getCommentCount())
                     .views(post.getViews())
-                    .thumbnailImage(post.getThumbnailImage()) // 썸네일 이미지 정보 추가
+                    .thumbnailImage(listThumbnail(post.getThumbnailImage())) // 썸네일 이미지 정보 추가
+                    .build();
+        }
+
+        // 목록 조회 프로젝션에서 DTO로 변환하는 정적 메서드
+        public static PostSummaryResponse fromProjection(PostSummaryProjection post) {
+            UserDTOs.UserInfoResponse author = UserDTOs.UserInfoResponse.builder()
+                    .userId(post.getAuthorId())
+                    .email(post.getAuthorEmail())
+                    .nickname(post.getAuthorNickname())
+                    .profileImage(post.getAuthorProfileImage())
+                    .createdAt(post.getAuthorCreatedAt())
+                    .build();
+
+            return PostSummaryResponse.builder()
+                    .id(post.getPostId())
+                    .title(post.getTitle())
+                    .author(author)
+                    .date(post.getCreatedAt().toLocalDate().toString())
+                    .likes(post.getLikeCount())
+                    .comments(post.getCommentCount())
+                    .views(post.getViews())
+                    .thumbnailImage(listThumbnail(post.getThumbnailImage()))
                     .build();
         }
+
+        // 상세 DTO에서 목록 DTO로 변환하는 정적 메서드 (상세 캐시 적중 시 사용)
+        public static PostSummaryResponse fromDetail(PostDetailResponse detail) {
+            return PostSummaryResponse.builder()
+                    .id(detail.getId())
+                    .title(detail.getTitle())
+                    .author(detail.getAuthor())
+                    .date(detail.getDate())
+                    .likes(detail.getLikes())
+                    .comments(detail.getComments())
+                    .views(detail.getViews())
+                    .thumbnailImage(listThumbnail(detail.getThumbnailImage()))
+                    .build();
+        }
+
+        // 업로드 이미지는 원본 대신 목록용 너비의 변환본 URL로 응답
+        private static String listThumbnail(String thumbnailImage) {
+            if (thumbnailImage == null || !thumbnailImage.startsWith("/api/files/") || thumbnailImage.contains("?")) {
+                return thumbnailImage;
+            }
+            return thumbnailImage + "?w=" + LIST_THUMBNAIL_WIDTH;
+        }
     }
 
     // 게시글 상세 응답 DTO
     @Data
-    @Builder
+    @Builder(toBuilder = true)
     @NoArgsConstructor
     @AllArgsConstructor
     public static class PostDetailResponse {
@@ -104,14 +153,13 @@ public class PostDTOs {
         private int comments;
         private int views;
         private String thumbnailImage; // 썸네일 이미지 필드 추가
+        // 처음 N개 댓글 (나머지는 commentsNextCursor로 댓글 API에서 조회)
         private List<CommentDTOs.CommentResponse> commentsData;
+        private boolean hasMoreComments;
+        private String commentsNextCursor;
 
         // Entity에서 DTO로 변환하는 정적 메서드
-        public static PostDetailResponse fromEntity(Post post) {
-            List<CommentDTOs.CommentResponse> commentResponses = post.getComments().stream()
-                    .map(CommentDTOs.CommentResponse::fromEntity)
-                    .collect(Collectors.toList());
-
+        public static PostDetailResponse fromEntity(Post post, CommentDTOs.CommentCursorResponse comments) {
             return PostDetailResponse.builder()
                     .id(post.getPostId())
                     .title(post.getTitle())
@@ -122,7 +170,9 @@ public class PostDTOs {
                     .comments(post.getCommentCount())
                     .views(post.getViews())
                     .thumbnailImage(post.getThumbnailImage()) // 썸네일 이미지 정보 추가
-                    .commentsData(commentResponses)
+                    .commentsData(comments.getComments())
+                    .hasMoreComments(comments.isHasNext())
+                    .commentsNextCursor(comments.getNextCursor())
                     .build();
         }
     }
@@ -138,4 +188,15 @@ public class PostDTOs {
         private int totalPages;
         private int currentPage;
     }
+
+    // 게시글 목록 커서 페이징 응답 DTO
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PostCursorResponse {
+        private List<PostSummaryResponse> posts;
+        private String nextCursor;
+        private boolean hasNext;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package jinviz.share_depot_be.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class UploadDTOs {
+
+    // 분할 업로드 세션 생성 요청 DTO
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UploadSessionCreateRequest {
+
+        // 저장할 하위 디렉토리 (posts, profiles)
+        @NotBlank(message = "하위 디렉토리는 필수 입력 항목입니다.")
+        private String subDirectory;
+
+        private String originalFilename;
+
+        @NotNull(message = "파일 크기는 필수 입력 항목입니다.")
+        @Positive(message = "파일 크기는 0보다 커야 합니다.")
+        private Long totalSize;
+    }
+
+    // 분할 업로드 세션 응답 DTO
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UploadSessionResponse {
+        private String uploadId;
+        private long totalSize;
+        private int chunkSize;
+        private int chunkCount;
+        // 받은 바이트 구간 (연속한 청크는 하나로 합침)
+        private List<ByteRange> receivedRanges;
+        private boolean complete;
+        private LocalDateTime expiresAt;
+    }
+
+    // 바이트 구간 DTO (end 포함)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ByteRange {
+        private long start;
+        private long end;
+    }
+}
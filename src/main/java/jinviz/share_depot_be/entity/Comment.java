@@ -11,7 +11,9 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "COMMENTS")
+@Table(name = "COMMENTS", indexes = {
+        @Index(name = "idx_comments_post_id_created_at_comment_id", columnList = "post_id, created_at, comment_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
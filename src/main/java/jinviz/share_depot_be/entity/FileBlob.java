@@ -0,0 +1,51 @@
+package jinviz.share_depot_be.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 기반(SHA-256) 저장 파일의 참조 수
+ * 같은 내용의 업로드는 하나의 파일을 공유하고, 참조 수가 0이 될 때 실제 파일을 삭제한다.
+ */
+@Entity
+@Table(name = "FILE_BLOBS", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_file_blobs_sub_directory_stored_filename", columnNames = {"sub_directory", "stored_filename"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileBlob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "file_blob_id")
+    private Integer fileBlobId;
+
+    @Column(name = "sub_directory", nullable = false, length = 50)
+    private String subDirectory;
+
+    // SHA-256 16진수 + 확장자
+    @Column(name = "stored_filename", nullable = false, length = 100)
+    private String storedFilename;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    // 마지막으로 참조를 추가한 시각 (같은 내용을 다시 업로드하면 갱신)
+    @Column(name = "last_acquired_at")
+    private LocalDateTime lastAcquiredAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
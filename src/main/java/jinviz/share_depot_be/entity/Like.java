@@ -10,7 +10,11 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "LIKES")
+@Table(name = "LIKES", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_likes_post_id_user_id", columnNames = {"post_id", "user_id"})
+}, indexes = {
+        @Index(name = "idx_likes_user_id_post_id", columnList = "user_id, post_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
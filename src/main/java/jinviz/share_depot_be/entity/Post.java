@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -13,7 +14,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "POSTS")
+@Table(name = "POSTS", indexes = {
+        @Index(name = "idx_posts_created_at_post_id", columnList = "created_at, post_id"),
+        @Index(name = "idx_posts_views_post_id", columnList = "views, post_id")
+})
+@DynamicUpdate
 @Data
 @Builder
 @NoArgsConstructor
@@ -37,6 +42,14 @@ public class Post {
     @Column(name = "views", nullable = false)
     private Integer views;
 
+    // 좋아요 수 (LIKES 집계 대신 비정규화된 카운터, 벌크 UPDATE로만 증감)
+    @Column(name = "like_count", nullable = false)
+    private Integer likeCount;
+
+    // 댓글 수 (COMMENTS 집계 대신 비정규화된 카운터, 벌크 UPDATE로만 증감)
+    @Column(name = "comment_count", nullable = false)
+    private Integer commentCount;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -54,14 +67,4 @@ public class Post {
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Like> likes = new ArrayList<>();
-
-    // 댓글 수 조회 메서드
-    public int getCommentCount() {
-        return comments.size();
-    }
-
-    // 좋아요 수 조회 메서드
-    public int getLikeCount() {
-        return likes.size();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package jinviz.share_depot_be.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 탈퇴 계정 정리 작업
+ * 단계별로 일정 개수씩 삭제하고 진행 상황을 함께 커밋하므로, 서버가 재시작되어도 마지막 단계부터 이어서 처리한다.
+ */
+@Entity
+@Table(name = "PURGE_JOBS", indexes = {
+        @Index(name = "idx_purge_jobs_stage", columnList = "stage"),
+        @Index(name = "idx_purge_jobs_next_attempt_at", columnList = "next_attempt_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PurgeJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "purge_job_id")
+    private Integer purgeJobId;
+
+    // 사용자 행은 마지막 단계에서 삭제되므로 외래 키 없이 ID만 보관
+    @Column(name = "user_id", nullable = false, unique = true)
+    private Integer userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", nullable = false, length = 20)
+    private Stage stage;
+
+    // 지금까지 삭제한 행 수
+    @Column(name = "deleted_rows", nullable = false)
+    private Long deletedRows;
+
+    // 연속 실패 횟수
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    // 실패 후 다시 시도할 시각 (성공하면 null)
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * 정리 단계 (선언 순서대로 진행)
+     */
+    public enum Stage {
+        // 사용자가 남긴 좋아요
+        LIKES,
+        // 사용자가 남긴 댓글
+        COMMENTS,
+        // 사용자 게시글에 달린 좋아요
+        POST_LIKES,
+        // 사용자 게시글에 달린 댓글
+        POST_COMMENTS,
+        // 사용자 게시글
+        POSTS,
+        // 사용자 계정
+        USER,
+        DONE;
+
+        public Stage next() {
+            return this == DONE ? DONE : values()[ordinal() + 1];
+        }
+    }
+}
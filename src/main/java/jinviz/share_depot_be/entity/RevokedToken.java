@@ -0,0 +1,32 @@
+package jinviz.share_depot_be.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 JWT (로그아웃)
+ * 토큰이 만료되면 더 이상 검사할 필요가 없으므로 만료 시각이 지난 행은 정리 작업에서 삭제한다.
+ */
+@Entity
+@Table(name = "REVOKED_TOKENS", indexes = {
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken {
+
+    // 토큰 ID (jti)
+    @Id
+    @Column(name = "token_id", length = 36)
+    private String tokenId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,67 @@
+package jinviz.share_depot_be.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분할 업로드 세션
+ * 전체 크기만큼 미리 만든 .part 파일에 청크를 위치별로 기록하고, 받은 청크 번호는 비트셋으로 보관한다.
+ * 완료되면 세션 행을 삭제하고, 만료 시각까지 완료되지 않은 세션은 백그라운드에서 정리한다.
+ */
+@Entity
+@Table(name = "UPLOAD_SESSIONS", indexes = {
+        @Index(name = "idx_upload_sessions_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_upload_sessions_user_id", columnList = "user_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSession {
+
+    // 추측할 수 없는 UUID를 세션 식별자로 사용
+    @Id
+    @Column(name = "upload_id", length = 36)
+    private String uploadId;
+
+    // 세션을 만든 사용자 (다른 사용자의 세션은 찾을 수 없는 것으로 처리)
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "sub_directory", nullable = false, length = 50)
+    private String subDirectory;
+
+    @Column(name = "original_filename")
+    private String originalFilename;
+
+    @Column(name = "total_size", nullable = false)
+    private Long totalSize;
+
+    @Column(name = "chunk_size", nullable = false)
+    private Integer chunkSize;
+
+    @Column(name = "chunk_count", nullable = false)
+    private Integer chunkCount;
+
+    // 받은 청크 번호 비트셋 (BitSet.toByteArray)
+    @Column(name = "received_chunks", nullable = false, length = 1024)
+    private byte[] receivedChunks;
+
+    // 마지막 청크 수신 후 이 시각까지 완료되지 않으면 정리
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 완료 처리를 시작한 시각 (완료 중에는 청크를 받지 않고 다른 완료 요청을 거부)
+    @Column(name = "completing_at")
+    private LocalDateTime completingAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
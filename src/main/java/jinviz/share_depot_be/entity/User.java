@@ -45,6 +45,14 @@ public class User {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // 탈퇴 시각 (값이 있으면 로그인 차단, 작성한 게시글 숨김. 실제 삭제는 AccountPurgeService가 처리)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    // 토큰 일괄 폐기 시각 (이 시각(초 단위)보다 먼저 발급된 토큰은 무효)
+    @Column(name = "tokens_revoked_at")
+    private LocalDateTime tokensRevokedAt;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
     private List<Post> posts = new ArrayList<>();
 
@@ -0,0 +1,51 @@
+package jinviz.share_depot_be.event;
+
+import jinviz.share_depot_be.dto.PostDTOs;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 활동 이벤트
+ * 게시글 작성/수정/삭제, 조회, 좋아요, 댓글 변경 시 발행되며
+ * 메모리 인덱스(인기 게시글 등)가 DB 조회 없이 상태를 갱신하는 데 사용한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostActivityEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED, VIEWED, LIKED, COMMENTED
+    }
+
+    private final Type type;
+    private final Integer postId;
+    // 좋아요/댓글 수 증감량 (COMMENTED의 0은 댓글 내용 수정)
+    private final int delta;
+    // 조회 시점의 게시글 요약 (VIEWED 이벤트에만 존재)
+    private final PostDTOs.PostSummaryResponse summary;
+
+    public static PostActivityEvent created(Integer postId) {
+        return new PostActivityEvent(Type.CREATED, postId, 0, null);
+    }
+
+    public static PostActivityEvent updated(Integer postId) {
+        return new PostActivityEvent(Type.UPDATED, postId, 0, null);
+    }
+
+    public static PostActivityEvent deleted(Integer postId) {
+        return new PostActivityEvent(Type.DELETED, postId, 0, null);
+    }
+
+    public static PostActivityEvent viewed(PostDTOs.PostSummaryResponse summary) {
+        return new PostActivityEvent(Type.VIEWED, summary.getId(), 1, summary);
+    }
+
+    public static PostActivityEvent liked(Integer postId, int delta) {
+        return new PostActivityEvent(Type.LIKED, postId, delta, null);
+    }
+
+    public static PostActivityEvent commented(Integer postId, int delta) {
+        return new PostActivityEvent(Type.COMMENTED, postId, delta, null);
+    }
+}
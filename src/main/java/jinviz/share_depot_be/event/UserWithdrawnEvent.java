@@ -0,0 +1,16 @@
+package jinviz.share_depot_be.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 탈퇴 이벤트
+ * 탈퇴 트랜잭션 커밋 후 메모리 인덱스/캐시가 탈퇴한 사용자의 게시글을 바로 내리는 데 사용한다.
+ * (게시글 행은 정리 작업이 나중에 삭제하며, 그때 게시글별 DELETED 이벤트가 다시 발행된다)
+ */
+@Getter
+@AllArgsConstructor
+public class UserWithdrawnEvent {
+
+    private final Integer userId;
+}
@@ -15,6 +15,7 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C004", "서버 오류가 발생했습니다."),
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, "C005", "잘못된 타입의 값입니다."),
     HANDLE_ACCESS_DENIED(HttpStatus.FORBIDDEN, "C006", "접근이 거부되었습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "C007", "잘못된 커서 값입니다."),
 
     // 사용자 관련 에러
     EMAIL_ALREADY_EXISTS(HttpStatus.CONFLICT, "U001", "이미 존재하는 이메일입니다."),
@@ -40,6 +41,12 @@ public enum ErrorCode {
     FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "F003", "파일을 찾을 수 없습니다."),
     FILE_DELETE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "F004", "파일 삭제 중 오류가 발생했습니다."),
     INVALID_FILE_FORMAT(HttpStatus.BAD_REQUEST, "F005", "지원하지 않는 파일 형식입니다."),
+    FILE_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "F006", "업로드 파일 크기가 제한을 초과했습니다."),
+    UPLOAD_SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "F007", "업로드 세션을 찾을 수 없습니다."),
+    INVALID_UPLOAD_CHUNK(HttpStatus.BAD_REQUEST, "F008", "청크 번호나 크기가 올바르지 않습니다."),
+    UPLOAD_INCOMPLETE(HttpStatus.CONFLICT, "F009", "아직 받지 못한 청크가 있습니다."),
+    UPLOAD_COMPLETING(HttpStatus.CONFLICT, "F010", "업로드를 완료하는 중입니다."),
+    UPLOAD_SESSION_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "F011", "진행 중인 업로드가 너무 많습니다."),
 
     // 인증 관련 에러
     JWT_TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "A001", "인증 토큰이 만료되었습니다."),
@@ -6,20 +6,18 @@ import jinviz.share_depot_be.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Integer> {
 
-    /**
-     * 게시글별 댓글 조회
-     * @param post 게시글
-     * @return 댓글 목록
-     */
-    List<Comment> findByPostOrderByCreatedAtAsc(Post post);
-
     /**
      * 게시글별 댓글 페이징 조회
      * @param post 게시글
@@ -28,6 +26,30 @@ public interface CommentRepository extends JpaRepository<Comment, Integer> {
      */
     Page<Comment> findByPost(Post post, Pageable pageable);
 
+    /**
+     * 게시글별 댓글 커서 조회 (첫 페이지, 작성자 함께 조회, 탈퇴한 사용자의 댓글 제외)
+     * @param postId 게시글 ID
+     * @param pageable 조회 개수 (0번 페이지)
+     * @return 댓글 목록 (작성순)
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user u WHERE c.post.postId = :postId AND u.deletedAt IS NULL " +
+            "ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<Comment> findFirstByPostWithUser(@Param("postId") Integer postId, Pageable pageable);
+
+    /**
+     * 게시글별 댓글 커서 조회 ((createdAt, commentId) 키셋 이후, 작성자 함께 조회, 탈퇴한 사용자의 댓글 제외)
+     * @param postId 게시글 ID
+     * @param createdAt 마지막으로 조회한 댓글 작성일
+     * @param commentId 마지막으로 조회한 댓글 ID
+     * @param pageable 조회 개수 (0번 페이지)
+     * @return 댓글 목록 (작성순)
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user u WHERE c.post.postId = :postId AND u.deletedAt IS NULL " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.commentId > :commentId)) " +
+            "ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<Comment> findByPostAfterWithUser(@Param("postId") Integer postId, @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("commentId") Integer commentId, Pageable pageable);
+
     /**
      * 사용자별 댓글 조회
      * @param user 사용자
@@ -51,14 +73,56 @@ public interface CommentRepository extends JpaRepository<Comment, Integer> {
     long countByPost(Post post);
 
     /**
-     * 게시글 ID로 댓글 삭제
+     * 사용자가 남긴 댓글 참조 조회 (탈퇴 정리용, 일부)
+     * @param userId 사용자 ID
+     * @param pageable 조회 개수 (0번 페이지)
+     * @return 댓글 ID와 게시글 ID 목록
+     */
+    @Query("SELECT c.commentId AS id, c.post.postId AS postId FROM Comment c WHERE c.user.userId = :userId")
+    List<PostChildReference> findReferencesByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    /**
+     * 사용자가 작성한 게시글에 달린 댓글 ID 조회 (탈퇴 정리용, 일부)
+     * @param userId 게시글 작성자 ID
+     * @param pageable 조회 개수 (0번 페이지)
+     * @return 댓글 ID 목록
+     */
+    @Query("SELECT c.commentId FROM Comment c WHERE c.post.postId IN (SELECT p.postId FROM Post p WHERE p.user.userId = :userId)")
+    List<Integer> findIdsOnPostsByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    /**
+     * 게시글 ID로 댓글 일괄 삭제 (엔티티 로드 없이 DELETE 한 번)
      * @param postId 게시글 ID
+     * @return 삭제된 행 수
      */
-    void deleteByPostPostId(Integer postId);
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.postId = :postId")
+    int deleteByPostPostId(@Param("postId") Integer postId);
 
     /**
-     * 사용자 ID로 댓글 삭제
+     * 여러 게시글의 댓글 일괄 삭제
+     * @param postIds 게시글 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.postId IN :postIds")
+    int deleteByPostIdIn(@Param("postIds") Collection<Integer> postIds);
+
+    /**
+     * 사용자 ID로 댓글 일괄 삭제 (사용자가 남긴 댓글)
      * @param userId 사용자 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.user.userId = :userId")
+    int deleteByUserUserId(@Param("userId") Integer userId);
+
+    /**
+     * 사용자가 작성한 모든 게시글의 댓글 일괄 삭제
+     * @param userId 게시글 작성자 ID
+     * @return 삭제된 행 수
      */
-    void deleteByUserUserId(Integer userId);
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.postId IN (SELECT p.postId FROM Post p WHERE p.user.userId = :userId)")
+    int deleteOnPostsByUserId(@Param("userId") Integer userId);
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package jinviz.share_depot_be.repository;
+
+import jinviz.share_depot_be.entity.FileBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, Integer> {
+
+    /**
+     * 파일 참조 추가 (없으면 참조 수 1로 생성, 있으면 1 증가)
+     * 행 잠금을 잡으므로 같은 트랜잭션에서 실제 파일을 확인/저장하면 동시 삭제와 겹치지 않는다.
+     * @param subDirectory 하위 디렉토리
+     * @param storedFilename 저장 파일명
+     * @param fileSize 파일 크기
+     * @return 변경된 행 수 (생성 1, 증가 2)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO FILE_BLOBS (sub_directory, stored_filename, file_size, ref_count, last_acquired_at, created_at) " +
+            "VALUES (:subDirectory, :storedFilename, :fileSize, 1, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, last_acquired_at = NOW()", nativeQuery = true)
+    int acquire(@Param("subDirectory") String subDirectory, @Param("storedFilename") String storedFilename,
+                @Param("fileSize") long fileSize);
+
+    /**
+     * 파일 참조 해제 (참조 수 1 감소)
+     * @param subDirectory 하위 디렉토리
+     * @param storedFilename 저장 파일명
+     * @return 변경된 행 수 (참조 수 관리 대상이 아니면 0)
+     */
+    @Modifying
+    @Query(value = "UPDATE FILE_BLOBS SET ref_count = ref_count - 1 " +
+            "WHERE sub_directory = :subDirectory AND stored_filename = :storedFilename AND ref_count > 0", nativeQuery = true)
+    int release(@Param("subDirectory") String subDirectory, @Param("storedFilename") String storedFilename);
+
+    /**
+     * 참조 수가 0인 파일 행 삭제
+     * @param subDirectory 하위 디렉토리
+     * @param storedFilename 저장 파일명
+     * @return 삭제된 행 수 (아직 참조 중이면 0)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM FILE_BLOBS " +
+            "WHERE sub_directory = :subDirectory AND stored_filename = :storedFilename AND ref_count = 0", nativeQuery = true)
+    int deleteIfUnreferenced(@Param("subDirectory") String subDirectory, @Param("storedFilename") String storedFilename);
+
+    /**
+     * 게시글/사용자가 참조하지 않는 파일 행 삭제 (참조 수와 관계없이)
+     * 기준 시각 이후에 다시 업로드된 파일은 아직 첨부 전일 수 있으므로 남긴다.
+     * @param subDirectory 하위 디렉토리
+     * @param storedFilename 저장 파일명
+     * @param acquiredBefore 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM FILE_BLOBS " +
+            "WHERE sub_directory = :subDirectory AND stored_filename = :storedFilename " +
+            "AND (last_acquired_at IS NULL OR last_acquired_at < :acquiredBefore)", nativeQuery = true)
+    int deleteIfAcquiredBefore(@Param("subDirectory") String subDirectory, @Param("storedFilename") String storedFilename,
+                               @Param("acquiredBefore") LocalDateTime acquiredBefore);
+
+    /**
+     * 파일 행 존재 여부 확인
+     * @param subDirectory 하위 디렉토리
+     * @param storedFilename 저장 파일명
+     * @return 존재 여부
+     */
+    boolean existsBySubDirectoryAndStoredFilename(String subDirectory, String storedFilename);
+}
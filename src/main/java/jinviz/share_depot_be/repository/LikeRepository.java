@@ -3,9 +3,15 @@ package jinviz.share_depot_be.repository;
 import jinviz.share_depot_be.entity.Like;
 import jinviz.share_depot_be.entity.Post;
 import jinviz.share_depot_be.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -35,16 +41,124 @@ public interface LikeRepository extends JpaRepository<Like, Integer> {
     boolean existsByPostAndUser(Post post, User user);
 
     /**
-     * 게시글 ID로 좋아요 삭제
+     * 게시글 ID 목록 중 사용자가 좋아요한 게시글 ID 조회
+     * @param userId 사용자 ID
+     * @param postIds 게시글 ID 목록
+     * @return 좋아요한 게시글 ID 목록
+     */
+    @Query("SELECT l.post.postId FROM Like l WHERE l.user.userId = :userId AND l.post.postId IN :postIds")
+    List<Integer> findLikedPostIds(@Param("userId") Integer userId, @Param("postIds") Collection<Integer> postIds);
+
+    /**
+     * 좋아요 추가 (이미 있으면 무시)
+     * (post_id, user_id) 유니크 제약으로 동시 요청에도 중복 행이 생기지 않는다.
+     * 탈퇴한 사용자의 게시글(정리 대기 중)에는 추가하지 않는다.
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID
+     * @return 추가된 행 수 (이미 좋아요했거나 게시글이 없으면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO LIKES (post_id, user_id, created_at) " +
+            "SELECT p.post_id, :userId, NOW() FROM POSTS p JOIN USERS u ON u.user_id = p.user_id " +
+            "WHERE p.post_id = :postId AND u.deleted_at IS NULL", nativeQuery = true)
+    int insertIgnore(@Param("postId") Integer postId, @Param("userId") Integer userId);
+
+    /**
+     * 좋아요 취소
      * @param postId 게시글 ID
+     * @param userId 사용자 ID
+     * @return 삭제된 행 수 (좋아요하지 않았으면 0)
      */
-    void deleteByPostPostId(Integer postId);
+    @Modifying
+    @Query(value = "DELETE FROM LIKES WHERE post_id = :postId AND user_id = :userId", nativeQuery = true)
+    int deleteByPostIdAndUserId(@Param("postId") Integer postId, @Param("userId") Integer userId);
 
     /**
-     * 사용자 ID로 좋아요 삭제
+     * 사용자가 남긴 좋아요 참조 조회 (탈퇴 정리용, 일부)
      * @param userId 사용자 ID
+     * @param pageable 조회 개수 (0번 페이지)
+     * @return 좋아요 ID와 게시글 ID 목록
+     */
+    @Query("SELECT l.likeId AS id, l.post.postId AS postId FROM Like l WHERE l.user.userId = :userId")
+    List<PostChildReference> findReferencesByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    /**
+     * 사용자가 작성한 게시글에 달린 좋아요 ID 조회 (탈퇴 정리용, 일부)
+     * @param userId 게시글 작성자 ID
+     * @param pageable 조회 개수 (0번 페이지)
+     * @return 좋아요 ID 목록
+     */
+    @Query("SELECT l.likeId FROM Like l WHERE l.post.postId IN (SELECT p.postId FROM Post p WHERE p.user.userId = :userId)")
+    List<Integer> findIdsOnPostsByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    /**
+     * 게시글 ID로 좋아요 일괄 삭제 (엔티티 로드 없이 DELETE 한 번)
+     * @param postId 게시글 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.post.postId = :postId")
+    int deleteByPostPostId(@Param("postId") Integer postId);
+
+    /**
+     * 여러 게시글의 좋아요 일괄 삭제
+     * @param postIds 게시글 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.post.postId IN :postIds")
+    int deleteByPostIdIn(@Param("postIds") Collection<Integer> postIds);
+
+    /**
+     * 사용자 ID로 좋아요 일괄 삭제 (사용자가 남긴 좋아요)
+     * @param userId 사용자 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.user.userId = :userId")
+    int deleteByUserUserId(@Param("userId") Integer userId);
+
+    /**
+     * 사용자가 작성한 모든 게시글의 좋아요 일괄 삭제
+     * @param userId 게시글 작성자 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.post.postId IN (SELECT p.postId FROM Post p WHERE p.user.userId = :userId)")
+    int deleteOnPostsByUserId(@Param("userId") Integer userId);
+
+    /**
+     * (post_id, user_id) 유니크 제약 존재 여부 확인
+     * @return 제약 수 (없으면 0)
+     */
+    @Query(value = "SELECT COUNT(*) FROM information_schema.TABLE_CONSTRAINTS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'LIKES' " +
+            "AND CONSTRAINT_NAME = 'uk_likes_post_id_user_id'", nativeQuery = true)
+    long countUniqueConstraint();
+
+    /**
+     * 같은 사용자의 중복 좋아요가 있는 게시글 ID 조회
+     * @return 게시글 ID 목록
+     */
+    @Query(value = "SELECT DISTINCT post_id FROM LIKES GROUP BY post_id, user_id HAVING COUNT(*) > 1", nativeQuery = true)
+    List<Integer> findPostIdsWithDuplicates();
+
+    /**
+     * 중복 좋아요 삭제 (같은 게시글/사용자 조합에서 가장 먼저 생긴 행만 남김)
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = "DELETE l FROM LIKES l JOIN LIKES d " +
+            "ON d.post_id = l.post_id AND d.user_id = l.user_id AND d.like_id < l.like_id", nativeQuery = true)
+    int deleteDuplicates();
+
+    /**
+     * (post_id, user_id) 유니크 제약 추가
+     * ddl-auto=update는 기존 테이블에 제약 추가가 실패해도 시작을 막지 않으므로 직접 추가한다.
      */
-    void deleteByUserUserId(Integer userId);
+    @Modifying
+    @Query(value = "ALTER TABLE LIKES ADD CONSTRAINT uk_likes_post_id_user_id UNIQUE (post_id, user_id)", nativeQuery = true)
+    void addUniqueConstraint();
 
     /**
      * 사용자별 좋아요한 게시글 목록 조회
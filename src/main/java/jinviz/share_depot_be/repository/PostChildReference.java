@@ -0,0 +1,12 @@
+package jinviz.share_depot_be.repository;
+
+/**
+ * 게시글에 속한 행(좋아요/댓글) 참조용 프로젝션
+ * 일괄 삭제 전에 행 ID와 소속 게시글 ID만 조회한다.
+ */
+public interface PostChildReference {
+
+    Integer getId();
+
+    Integer getPostId();
+}
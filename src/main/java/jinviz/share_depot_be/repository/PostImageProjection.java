@@ -0,0 +1,14 @@
+package jinviz.share_depot_be.repository;
+
+/**
+ * 업로드 파일 참조 확인용 프로젝션
+ * 썸네일과 본문에 포함된 이미지 URL만 조회한다.
+ */
+public interface PostImageProjection {
+
+    Integer getPostId();
+
+    String getThumbnailImage();
+
+    String getContent();
+}
@@ -9,12 +9,23 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Integer> {
 
+    // 목록 조회용 SELECT 절 (본문 제외, 작성자 조인, 탈퇴한 사용자의 게시글 제외)
+    String SUMMARY_SELECT = "SELECT p.postId AS postId, p.title AS title, p.thumbnailImage AS thumbnailImage, " +
+            "p.views AS views, p.likeCount AS likeCount, p.commentCount AS commentCount, p.createdAt AS createdAt, " +
+            "u.userId AS authorId, u.email AS authorEmail, u.nickname AS authorNickname, " +
+            "u.profileImage AS authorProfileImage, u.createdAt AS authorCreatedAt " +
+            "FROM Post p JOIN p.user u WHERE u.deletedAt IS NULL ";
+
     /**
      * 사용자별 게시글 조회
      * @param user 사용자
@@ -55,6 +66,58 @@ public interface PostRepository extends JpaRepository<Post, Integer> {
      */
     Page<Post> findByTitleContainingOrContentContaining(String title, String content, Pageable pageable);
 
+    /**
+     * 게시글 조회 (탈퇴한 사용자의 게시글 제외, 작성자 함께 조회)
+     * @param postId 게시글 ID
+     * @return 게시글 Optional
+     */
+    @Query("SELECT p FROM Post p JOIN FETCH p.user u WHERE p.postId = :postId AND u.deletedAt IS NULL")
+    Optional<Post> findVisibleById(@Param("postId") Integer postId);
+
+    /**
+     * 사용자가 작성한 게시글 ID를 잠금과 함께 조회 (정리 작업용)
+     * 잠긴 게시글에는 다른 트랜잭션이 좋아요/댓글을 추가할 수 없으므로(외래 키 확인), 자식 행과 게시글을 같은 트랜잭션에서 삭제할 수 있다.
+     * @param userId 사용자 ID
+     * @param limit 조회 개수
+     * @return 게시글 ID 목록
+     */
+    @Query(value = "SELECT post_id FROM POSTS WHERE user_id = :userId ORDER BY post_id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<Integer> lockPostIdsByUserId(@Param("userId") Integer userId, @Param("limit") int limit);
+
+    /**
+     * 사용자가 작성한 게시글 ID 조회 (일부)
+     * @param userId 사용자 ID
+     * @param pageable 조회 개수 (0번 페이지)
+     * @return 게시글 ID 목록
+     */
+    @Query("SELECT p.postId FROM Post p WHERE p.user.userId = :userId")
+    List<Integer> findPostIdsByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    /**
+     * 노출 중인 게시글 수 조회 (탈퇴한 사용자의 게시글 제외)
+     * @return 게시글 수
+     */
+    @Query("SELECT COUNT(p) FROM Post p WHERE p.user.deletedAt IS NULL")
+    long countVisible();
+
+    /**
+     * 게시글 삭제 (좋아요/댓글을 먼저 일괄 삭제한 뒤 호출, cascade 없이 DELETE 한 번)
+     * @param postId 게시글 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Post p WHERE p.postId = :postId")
+    int deleteByPostId(@Param("postId") Integer postId);
+
+    /**
+     * 사용자가 작성한 게시글 일괄 삭제 (좋아요/댓글을 먼저 일괄 삭제한 뒤 호출)
+     * @param userId 사용자 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Post p WHERE p.user.userId = :userId")
+    int deleteByUserId(@Param("userId") Integer userId);
+
     /**
      * 조회수 증가
      * @param postId 게시글 ID
@@ -63,6 +126,75 @@ public interface PostRepository extends JpaRepository<Post, Integer> {
     @Query("UPDATE Post p SET p.views = p.views + 1 WHERE p.postId = :postId")
     void incrementViews(@Param("postId") Integer postId);
 
+    /**
+     * 좋아요 수 조회
+     * @param postId 게시글 ID
+     * @return 좋아요 수 (게시글이 없거나 탈퇴한 사용자의 게시글이면 null)
+     */
+    @Query("SELECT p.likeCount FROM Post p WHERE p.postId = :postId AND p.user.deletedAt IS NULL")
+    Integer findLikeCountById(@Param("postId") Integer postId);
+
+    /**
+     * 좋아요 수 증감
+     * @param postId 게시글 ID
+     * @param delta 증감량
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta WHERE p.postId = :postId")
+    int addLikeCount(@Param("postId") Integer postId, @Param("delta") int delta);
+
+    /**
+     * 댓글 수 증감
+     * @param postId 게시글 ID
+     * @param delta 증감량
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.postId = :postId")
+    int addCommentCount(@Param("postId") Integer postId, @Param("delta") int delta);
+
+    /**
+     * 특정 사용자가 누른 좋아요만큼 각 게시글의 좋아요 수 차감 (회원 탈퇴 시)
+     * @param userId 사용자 ID
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE POSTS p JOIN (SELECT post_id, COUNT(*) AS cnt FROM LIKES WHERE user_id = :userId GROUP BY post_id) l " +
+            "ON p.post_id = l.post_id SET p.like_count = p.like_count - l.cnt", nativeQuery = true)
+    int subtractLikeCountsByUser(@Param("userId") Integer userId);
+
+    /**
+     * 특정 사용자가 작성한 댓글만큼 각 게시글의 댓글 수 차감 (회원 탈퇴 시)
+     * @param userId 사용자 ID
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE POSTS p JOIN (SELECT post_id, COUNT(*) AS cnt FROM COMMENTS WHERE user_id = :userId GROUP BY post_id) c " +
+            "ON p.post_id = c.post_id SET p.comment_count = p.comment_count - c.cnt", nativeQuery = true)
+    int subtractCommentCountsByUser(@Param("userId") Integer userId);
+
+    /**
+     * 게시글 ID 구간의 좋아요/댓글 수를 LIKES, COMMENTS 테이블 기준으로 재계산
+     * @param fromId 시작 게시글 ID (포함)
+     * @param toId 끝 게시글 ID (포함)
+     * @return 처리된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE POSTS p SET " +
+            "p.like_count = (SELECT COUNT(*) FROM LIKES l WHERE l.post_id = p.post_id), " +
+            "p.comment_count = (SELECT COUNT(*) FROM COMMENTS c WHERE c.post_id = p.post_id) " +
+            "WHERE p.post_id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int reconcileCounters(@Param("fromId") Integer fromId, @Param("toId") Integer toId);
+
+    /**
+     * 가장 큰 게시글 ID 조회
+     * @return 최대 게시글 ID (게시글이 없으면 null)
+     */
+    @Query("SELECT MAX(p.postId) FROM Post p")
+    Integer findMaxPostId();
+
     /**
      * 인기 게시글 조회 (조회수 기준, 상위 N개)
      * @param pageable 페이징 정보
@@ -76,4 +208,129 @@ public interface PostRepository extends JpaRepository<Post, Integer> {
      * @return 페이징된 게시글 목록
      */
     Page<Post> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+    /**
+     * 게시글 목록 프로젝션 조회 (최신순, 페이징)
+     * @param pageable 페이징 정보
+     * @return 페이징된 게시글 요약 목록
+     */
+    @Query(value = SUMMARY_SELECT + "ORDER BY p.createdAt DESC, p.postId DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.user.deletedAt IS NULL")
+    Page<PostSummaryProjection> findSummaryPage(Pageable pageable);
+
+    /**
+     * 인기 게시글 목록 프로젝션 조회 (조회수순, 페이징)
+     * @param pageable 페이징 정보
+     * @return 페이징된 게시글 요약 목록
+     */
+    @Query(value = SUMMARY_SELECT + "ORDER BY p.views DESC, p.postId DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.user.deletedAt IS NULL")
+    Page<PostSummaryProjection> findPopularSummaryPage(Pageable pageable);
+
+    /**
+     * 게시글 요약 단건 조회
+     * @param postId 게시글 ID
+     * @return 게시글 요약 Optional
+     */
+    @Query(SUMMARY_SELECT + "AND p.postId = :postId")
+    Optional<PostSummaryProjection> findSummaryById(@Param("postId") Integer postId);
+
+    /**
+     * 게시글 요약 목록 조회 (ID 목록, 순서는 보장하지 않음)
+     * @param postIds 게시글 ID 목록
+     * @return 게시글 요약 목록
+     */
+    @Query(SUMMARY_SELECT + "AND p.postId IN :postIds")
+    List<PostSummaryProjection> findSummariesByPostIdIn(@Param("postIds") Collection<Integer> postIds);
+
+    /**
+     * 특정 시각 이후 작성된 게시글 요약 조회 (최신순)
+     * @param since 기준 시각
+     * @param pageable 조회 개수 (0번 페이지)
+     * @return 게시글 요약 목록
+     */
+    @Query(SUMMARY_SELECT + "AND p.createdAt >= :since ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostSummaryProjection> findLatestSummariesSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    /**
+     * 제목 또는 내용 검색 프로젝션 조회 (검색 색인이 준비되기 전 대체용)
+     * @param keyword 검색 키워드
+     * @param pageable 페이징 정보
+     * @return 페이징된 게시글 요약 목록
+     */
+    @Query(value = SUMMARY_SELECT + "AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.user.deletedAt IS NULL " +
+                    "AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%)")
+    Page<PostSummaryProjection> searchSummaryPage(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 검색 색인용 게시글 본문 조회 (게시글 ID 오름차순, afterId 이후)
+     * @param afterId 마지막으로 조회한 게시글 ID
+     * @param pageable 조회 개수 (0번 페이지)
+     * @return 게시글 본문 목록
+     */
+    @Query("SELECT p.postId AS postId, p.title AS title, p.content AS content FROM Post p " +
+            "WHERE p.postId > :afterId AND p.user.deletedAt IS NULL ORDER BY p.postId")
+    List<PostTextProjection> findTextsAfter(@Param("afterId") Integer afterId, Pageable pageable);
+
+    /**
+     * 검색 색인용 게시글 본문 단건 조회
+     * @param postId 게시글 ID
+     * @return 게시글 본문 Optional
+     */
+    @Query("SELECT p.postId AS postId, p.title AS title, p.content AS content FROM Post p " +
+            "WHERE p.postId = :postId AND p.user.deletedAt IS NULL")
+    Optional<PostTextProjection> findTextById(@Param("postId") Integer postId);
+
+    /**
+     * 업로드 파일 참조 확인용 이미지 URL 조회 (게시글 ID 오름차순, afterId 이후)
+     * 탈퇴 처리 중인 사용자의 게시글도 정리가 끝날 때까지는 파일을 참조하므로 포함한다.
+     * @param afterId 마지막으로 조회한 게시글 ID
+     * @param pageable 조회 개수 (0번 페이지)
+     * @return 게시글 이미지 URL 목록
+     */
+    @Query("SELECT p.postId AS postId, p.thumbnailImage AS thumbnailImage, p.content AS content FROM Post p " +
+            "WHERE p.postId > :afterId ORDER BY p.postId")
+    List<PostImageProjection> findImagesAfter(@Param("afterId") Integer afterId, Pageable pageable);
+
+    /**
+     * 최신 게시글 커서 조회 (첫 페이지, COUNT 쿼리 없음)
+     * @param pageable 조회 개수 (0번 페이지)
+     * @return 게시글 요약 목록
+     */
+    @Query(SUMMARY_SELECT + "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostSummaryProjection> findLatestSummaries(Pageable pageable);
+
+    /**
+     * 최신 게시글 커서 조회 ((createdAt, postId) 키셋 이후)
+     * @param createdAt 마지막으로 조회한 게시글 생성일
+     * @param postId 마지막으로 조회한 게시글 ID
+     * @param pageable 조회 개수 (0번 페이지)
+     * @return 게시글 요약 목록
+     */
+    @Query(SUMMARY_SELECT +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostSummaryProjection> findLatestSummariesAfter(@Param("createdAt") LocalDateTime createdAt, @Param("postId") Integer postId, Pageable pageable);
+
+    /**
+     * 인기 게시글 커서 조회 (첫 페이지, COUNT 쿼리 없음)
+     * @param pageable 조회 개수 (0번 페이지)
+     * @return 게시글 요약 목록
+     */
+    @Query(SUMMARY_SELECT + "ORDER BY p.views DESC, p.postId DESC")
+    List<PostSummaryProjection> findPopularSummaries(Pageable pageable);
+
+    /**
+     * 인기 게시글 커서 조회 ((views, postId) 키셋 이후)
+     * @param views 마지막으로 조회한 게시글 조회수
+     * @param postId 마지막으로 조회한 게시글 ID
+     * @param pageable 조회 개수 (0번 페이지)
+     * @return 게시글 요약 목록
+     */
+    @Query(SUMMARY_SELECT +
+            "AND (p.views < :views OR (p.views = :views AND p.postId < :postId)) " +
+            "ORDER BY p.views DESC, p.postId DESC")
+    List<PostSummaryProjection> findPopularSummariesAfter(@Param("views") Integer views, @Param("postId") Integer postId, Pageable pageable);
 }
\ No newline at end of file
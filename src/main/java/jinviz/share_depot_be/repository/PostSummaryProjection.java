@@ -0,0 +1,34 @@
+package jinviz.share_depot_be.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 조회용 프로젝션
+ * 본문(content) 없이 목록에 필요한 컬럼과 작성자 정보만 조회한다.
+ */
+public interface PostSummaryProjection {
+
+    Integer getPostId();
+
+    String getTitle();
+
+    String getThumbnailImage();
+
+    Integer getViews();
+
+    Integer getLikeCount();
+
+    Integer getCommentCount();
+
+    LocalDateTime getCreatedAt();
+
+    Integer getAuthorId();
+
+    String getAuthorEmail();
+
+    String getAuthorNickname();
+
+    String getAuthorProfileImage();
+
+    LocalDateTime getAuthorCreatedAt();
+}
@@ -0,0 +1,14 @@
+package jinviz.share_depot_be.repository;
+
+/**
+ * 검색 색인용 프로젝션
+ * 색인 대상인 제목과 본문만 조회한다.
+ */
+public interface PostTextProjection {
+
+    Integer getPostId();
+
+    String getTitle();
+
+    String getContent();
+}
@@ -0,0 +1,44 @@
+package jinviz.share_depot_be.repository;
+
+import jinviz.share_depot_be.entity.PurgeJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PurgeJobRepository extends JpaRepository<PurgeJob, Integer> {
+
+    /**
+     * 지금 처리할 수 있는 정리 작업 조회 (먼저 등록된 순)
+     * 재시도 대기 중이거나 최대 시도 횟수를 넘긴 작업은 제외한다.
+     * @param done 제외할 단계 (DONE)
+     * @param maxAttempts 최대 연속 실패 횟수
+     * @param now 기준 시각
+     * @param pageable 조회 개수 (0번 페이지)
+     * @return 정리 작업 목록
+     */
+    @Query("SELECT j FROM PurgeJob j WHERE j.stage <> :done AND j.attempts < :maxAttempts " +
+            "AND (j.nextAttemptAt IS NULL OR j.nextAttemptAt <= :now) ORDER BY j.purgeJobId")
+    List<PurgeJob> findRunnable(@Param("done") PurgeJob.Stage done, @Param("maxAttempts") int maxAttempts,
+                                @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 최대 시도 횟수를 넘겨 중단된 정리 작업 조회
+     * @param done 제외할 단계 (DONE)
+     * @param maxAttempts 최대 연속 실패 횟수
+     * @return 정리 작업 목록
+     */
+    List<PurgeJob> findByStageNotAndAttemptsGreaterThanEqual(PurgeJob.Stage done, int maxAttempts);
+
+    /**
+     * 사용자 정리 작업 존재 여부 확인
+     * @param userId 사용자 ID
+     * @return 존재 여부
+     */
+    boolean existsByUserId(Integer userId);
+}
@@ -0,0 +1,46 @@
+package jinviz.share_depot_be.repository;
+
+import jinviz.share_depot_be.entity.UploadSession;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    /**
+     * 업로드 세션 조회 (행 잠금)
+     * 같은 세션의 청크가 동시에 도착해도 받은 청크 비트셋 갱신이 겹치지 않도록 한다.
+     * @param uploadId 업로드 세션 ID
+     * @return 업로드 세션
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UploadSession s WHERE s.uploadId = :uploadId")
+    Optional<UploadSession> findByIdForUpdate(@Param("uploadId") String uploadId);
+
+    /**
+     * 사용자의 진행 중인 업로드 세션 수와 전체 크기 합계
+     * @param userId 사용자 ID
+     * @param now 현재 시각
+     * @return 세션 수와 전체 크기 합계
+     */
+    @Query("SELECT COUNT(s) AS sessionCount, COALESCE(SUM(s.totalSize), 0) AS totalBytes FROM UploadSession s " +
+            "WHERE s.userId = :userId AND s.expiresAt > :now")
+    UploadUsageProjection findActiveUsageByUserId(@Param("userId") Integer userId, @Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 업로드 세션 조회 (오래된 순)
+     * @param now 현재 시각
+     * @param pageable 조회 개수 (0번 페이지)
+     * @return 업로드 세션 목록
+     */
+    List<UploadSession> findByExpiresAtBeforeOrderByExpiresAtAsc(LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,11 @@
+package jinviz.share_depot_be.repository;
+
+/**
+ * 사용자별 진행 중인 분할 업로드 사용량 (세션 수, 전체 크기 합계)
+ */
+public interface UploadUsageProjection {
+
+    long getSessionCount();
+
+    long getTotalBytes();
+}
@@ -0,0 +1,12 @@
+package jinviz.share_depot_be.repository;
+
+/**
+ * 업로드 파일 참조 확인용 프로젝션
+ * 프로필 이미지 URL만 조회한다.
+ */
+public interface UserImageProjection {
+
+    Integer getUserId();
+
+    String getProfileImage();
+}
@@ -1,9 +1,16 @@
 package jinviz.share_depot_be.repository;
 
 import jinviz.share_depot_be.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -23,6 +30,14 @@ public interface UserRepository extends JpaRepository<User, Integer> {
      */
     Optional<User> findByNickname(String nickname);
 
+    /**
+     * 탈퇴하지 않은 사용자 행을 잠금과 함께 조회 (사용자별 한도 확인을 직렬화하기 위함)
+     * @param userId 사용자 ID
+     * @return 사용자 ID Optional (없거나 탈퇴했으면 empty)
+     */
+    @Query(value = "SELECT user_id FROM USERS WHERE user_id = :userId AND deleted_at IS NULL FOR UPDATE", nativeQuery = true)
+    Optional<Integer> lockActiveUserId(@Param("userId") Integer userId);
+
     /**
      * 이메일 존재 여부 확인
      * @param email 이메일
@@ -36,4 +51,42 @@ public interface UserRepository extends JpaRepository<User, Integer> {
      * @return 존재 여부
      */
     boolean existsByNickname(String nickname);
-}
\ No newline at end of file
+
+    /**
+     * 업로드 파일 참조 확인용 프로필 이미지 URL 조회 (사용자 ID 오름차순, afterId 이후)
+     * @param afterId 마지막으로 조회한 사용자 ID
+     * @param pageable 조회 개수 (0번 페이지)
+     * @return 프로필 이미지 URL 목록
+     */
+    @Query("SELECT u.userId AS userId, u.profileImage AS profileImage FROM User u " +
+            "WHERE u.userId > :afterId AND u.profileImage IS NOT NULL ORDER BY u.userId")
+    List<UserImageProjection> findProfileImagesAfter(@Param("afterId") Integer afterId, Pageable pageable);
+
+    /**
+     * 사용자 삭제 (게시글/댓글/좋아요를 먼저 일괄 삭제한 뒤 호출, cascade 없이 DELETE 한 번)
+     * @param userId 사용자 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM User u WHERE u.userId = :userId")
+    int deleteByUserId(@Param("userId") Integer userId);
+
+    /**
+     * 토큰 폐기 확인용 사용자 상태 조회
+     * @param userId 사용자 ID
+     * @return 탈퇴 시각과 토큰 폐기 시각 (사용자가 없으면 empty)
+     */
+    @Query("SELECT u.deletedAt AS deletedAt, u.tokensRevokedAt AS tokensRevokedAt FROM User u WHERE u.userId = :userId")
+    Optional<UserTokenStateProjection> findTokenStateById(@Param("userId") Integer userId);
+
+    /**
+     * 사용자의 토큰 일괄 폐기 시각 기록
+     * @param userId 사용자 ID
+     * @param revokedAt 폐기 시각
+     * @return 수정된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.tokensRevokedAt = :revokedAt WHERE u.userId = :userId")
+    int updateTokensRevokedAt(@Param("userId") Integer userId, @Param("revokedAt") LocalDateTime revokedAt);
+}
@@ -0,0 +1,13 @@
+package jinviz.share_depot_be.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 토큰 폐기 확인용 사용자 상태 (탈퇴 시각, 토큰 폐기 시각)
+ */
+public interface UserTokenStateProjection {
+
+    LocalDateTime getDeletedAt();
+
+    LocalDateTime getTokensRevokedAt();
+}
@@ -1,5 +1,6 @@
 package jinviz.share_depot_be.security;
 
+import io.jsonwebtoken.Claims;
 import jinviz.share_depot_be.exception.CustomException;
 import jinviz.share_depot_be.exception.ErrorCode;
 import jakarta.servlet.FilterChain;
@@ -29,14 +30,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = jwtTokenProvider.resolveToken(request);
 
-            // 토큰이 유효한 경우 인증 정보 설정
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-                Authentication auth = jwtTokenProvider.getAuthentication(token);
-                SecurityContextHolder.getContext().setAuthentication(auth);
-                log.debug("Set Authentication to security context for '{}', uri: {}", auth.getName(), request.getRequestURI());
-            } else if (StringUtils.hasText(token)) {
-                log.debug("Invalid JWT token.");
-                throw new CustomException(ErrorCode.JWT_TOKEN_INVALID);
+            if (StringUtils.hasText(token)) {
+                // 서명 검증과 클레임 추출을 한 번에 수행
+                Claims claims = jwtTokenProvider.parseClaims(token);
+
+                // 토큰이 유효한 경우 인증 정보 설정
+                if (claims != null) {
+                    Authentication auth = jwtTokenProvider.getAuthentication(claims);
+                    SecurityContextHolder.getContext().setAuthentication(auth);
+                    log.debug("Set Authentication to security context for '{}', uri: {}", auth.getName(), request.getRequestURI());
+                } else {
+                    log.debug("Invalid JWT token.");
+                    throw new CustomException(ErrorCode.JWT_TOKEN_INVALID);
+                }
             }
         } catch (CustomException ex) {
             log.error("Could not set user authentication in security context: {}", ex.getMessage());
@@ -2,6 +2,8 @@ package jinviz.share_depot_be.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jinviz.share_depot_be.exception.CustomException;
+import jinviz.share_depot_be.exception.ErrorCode;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +11,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
@@ -16,22 +20,35 @@ import org.springframework.util.StringUtils;
 
 import java.security.Key;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    private static final List<String> DEFAULT_ROLES = Collections.singletonList("ROLE_USER");
+
     @Value("${jwt.secret}")
     private String secretKey;
 
     @Value("${jwt.expiration}")
     private long tokenValidityInMilliseconds;
 
+    // true: 토큰 클레임만으로 인증 정보 생성, false: 요청마다 DB에서 사용자 조회
+    @Value("${jwt.stateless:true}")
+    private boolean stateless;
+
     private Key key;
 
+    // 서명 키가 고정이므로 파서를 한 번만 생성하여 재사용
+    private JwtParser jwtParser;
+
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationStore tokenRevocationStore;
 
     @PostConstruct
     protected void init() {
@@ -39,6 +56,9 @@ public class JwtTokenProvider {
         byte[] keyBytes = Base64.getEncoder().encode(secretKey.getBytes());
         // HMAC SHA 알고리즘을 사용하여 서명 키 생성
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     /**
@@ -50,12 +70,14 @@ public class JwtTokenProvider {
     public String createToken(String email, Integer userId) {
         Claims claims = Jwts.claims().setSubject(email);
         claims.put("user_id", userId);
+        claims.put("roles", DEFAULT_ROLES);
 
         Date now = new Date();
         Date validity = new Date(now.getTime() + tokenValidityInMilliseconds);
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(validity)
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -68,20 +90,52 @@ public class JwtTokenProvider {
      * @return Authentication 객체
      */
     public Authentication getAuthentication(String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(getUsername(token));
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            throw new CustomException(ErrorCode.JWT_TOKEN_INVALID);
+        }
+        return getAuthentication(claims);
+    }
+
+    /**
+     * 검증된 클레임에서 사용자 인증 정보 생성
+     * stateless 모드에서는 DB 조회 없이 클레임(sub, user_id, roles)으로 UserPrincipal을 만든다.
+     * @param claims 서명 검증이 끝난 토큰 클레임
+     * @return Authentication 객체
+     */
+    public Authentication getAuthentication(Claims claims) {
+        UserDetails userDetails = stateless
+                ? toPrincipal(claims)
+                : userDetailsService.loadUserByUsername(claims.getSubject());
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
+    /**
+     * 토큰 서명 검증 및 클레임 추출 (한 번의 파싱으로 검증과 추출을 함께 수행)
+     * @param token JWT 토큰
+     * @return 토큰 클레임 (유효하지 않거나 폐기된 토큰이면 null)
+     */
+    public Claims parseClaims(String token) {
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            if (tokenRevocationStore.isRevoked(claims)) {
+                log.debug("Revoked JWT token: {}", claims.getId());
+                return null;
+            }
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * 토큰에서 사용자 이메일 추출
      * @param token JWT 토큰
      * @return 사용자 이메일
      */
     public String getUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
+        return jwtParser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
     }
@@ -92,10 +146,7 @@ public class JwtTokenProvider {
      * @return 사용자 ID
      */
     public Integer getUserId(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
+        return jwtParser.parseClaimsJws(token)
                 .getBody()
                 .get("user_id", Integer.class);
     }
@@ -119,16 +170,25 @@ public class JwtTokenProvider {
      * @return 유효 여부
      */
     public boolean validateToken(String token) {
-        try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+        return parseClaims(token) != null;
+    }
 
-            return !claims.getBody().getExpiration().before(new Date());
-        } catch (JwtException | IllegalArgumentException e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
-        }
+    /**
+     * 클레임으로 인증 사용자 정보 생성
+     * @param claims 토큰 클레임
+     * @return 인증 사용자 정보
+     */
+    @SuppressWarnings("unchecked")
+    private UserPrincipal toPrincipal(Claims claims) {
+        List<String> roles = claims.get("roles", List.class);
+        List<GrantedAuthority> authorities = (roles == null ? DEFAULT_ROLES : roles).stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
+                .toList();
+
+        return UserPrincipal.builder()
+                .userId(claims.get("user_id", Integer.class))
+                .email(claims.getSubject())
+                .authorities(authorities)
+                .build();
     }
 }
\ No newline at end of file
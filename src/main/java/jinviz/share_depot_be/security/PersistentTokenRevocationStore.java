@@ -0,0 +1,136 @@
+package jinviz.share_depot_be.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import jinviz.share_depot_be.entity.RevokedToken;
+import jinviz.share_depot_be.repository.RevokedTokenRepository;
+import jinviz.share_depot_be.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+/**
+ * DB 기반 JWT 폐기 저장소
+ * 로그아웃한 토큰은 REVOKED_TOKENS에, 사용자 단위 폐기는 USERS.tokens_revoked_at에 기록하므로 재시작이나 다른 인스턴스에서도 유지된다.
+ * 탈퇴했거나(deleted_at) 정리 작업으로 삭제된 사용자의 토큰도 거부한다.
+ * 요청마다 DB를 조회하지 않도록 확인 결과를 짧은 시간 캐시하며, 다른 인스턴스에서 폐기한 토큰은 캐시 만료 후 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PersistentTokenRevocationStore implements TokenRevocationStore {
+
+    @Value("${jwt.revocation.cache-ttl-seconds:30}")
+    private long cacheTtlSeconds;
+
+    @Value("${jwt.revocation.cache-max-size:100000}")
+    private long cacheMaxSize;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserRepository userRepository;
+
+    // 토큰 ID(jti) -> 폐기 여부
+    private Cache<String, Boolean> tokenCache;
+
+    // 사용자 ID -> 토큰 검증 상태
+    private Cache<Integer, UserState> userCache;
+
+    @PostConstruct
+    protected void init() {
+        this.tokenCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build();
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build();
+    }
+
+    @Override
+    public void revokeToken(String tokenId, Date expiresAt) {
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(tokenId)
+                .expiresAt(LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault()))
+                .build());
+        tokenCache.put(tokenId, true);
+    }
+
+    @Override
+    public void revokeUser(Integer userId) {
+        // JWT 발급 시각(iat)이 초 단위이므로 폐기 시각도 초 단위로 기록
+        LocalDateTime revokedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        userRepository.updateTokensRevokedAt(userId, revokedAt);
+        userCache.invalidate(userId);
+        // 탈퇴 트랜잭션 안에서 호출되면 커밋 전 상태가 다시 캐시될 수 있으므로 커밋 후 한 번 더 무효화
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userCache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    @Override
+    public boolean isRevoked(Claims claims) {
+        if (claims.getId() != null
+                && tokenCache.get(claims.getId(), revokedTokenRepository::existsById)) {
+            return true;
+        }
+
+        Integer userId = claims.get("user_id", Integer.class);
+        if (userId == null) {
+            return false;
+        }
+        UserState state = userCache.get(userId, this::loadUserState);
+        if (!state.active()) {
+            return true;
+        }
+        // 폐기한 시각과 같은 초에 발급된 토큰은 유효
+        return claims.getIssuedAt() != null
+                && claims.getIssuedAt().toInstant().getEpochSecond() < state.tokensRevokedAtSeconds();
+    }
+
+    /**
+     * 만료되어 더 이상 검사할 필요가 없는 폐기 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.cleanup-interval-ms:600000}")
+    public void purgeExpired() {
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired revoked tokens", deleted);
+        }
+    }
+
+    private UserState loadUserState(Integer userId) {
+        return userRepository.findTokenStateById(userId)
+                .map(user -> new UserState(user.getDeletedAt() == null,
+                        user.getTokensRevokedAt() == null
+                                ? Long.MIN_VALUE
+                                : user.getTokensRevokedAt().atZone(ZoneId.systemDefault()).toEpochSecond()))
+                // 정리 작업으로 삭제된 사용자
+                .orElse(new UserState(false, Long.MIN_VALUE));
+    }
+
+    /**
+     * 사용자 토큰 검증 상태
+     * @param active 탈퇴하지 않은 사용자 여부
+     * @param tokensRevokedAtSeconds 토큰 일괄 폐기 시각 (epoch 초, 없으면 Long.MIN_VALUE)
+     */
+    private record UserState(boolean active, long tokensRevokedAtSeconds) {
+    }
+}
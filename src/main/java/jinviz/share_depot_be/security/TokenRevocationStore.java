@@ -0,0 +1,33 @@
+package jinviz.share_depot_be.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * JWT 폐기 저장소
+ * 토큰을 DB 조회 없이 검증하는 대신, 로그아웃/회원 탈퇴로 폐기된 토큰은 여기서 걸러낸다.
+ * 폐기 기록은 재시작 후에도, 다른 인스턴스에서도 유지되어야 한다.
+ */
+public interface TokenRevocationStore {
+
+    /**
+     * 단일 토큰 폐기 (로그아웃)
+     * @param tokenId 토큰 ID (jti)
+     * @param expiresAt 토큰 만료 시각 (이후에는 기록을 지워도 됨)
+     */
+    void revokeToken(String tokenId, Date expiresAt);
+
+    /**
+     * 사용자의 기존 토큰 전체 폐기 (회원 탈퇴 등)
+     * @param userId 사용자 ID
+     */
+    void revokeUser(Integer userId);
+
+    /**
+     * 토큰 폐기 여부 확인
+     * @param claims 서명 검증이 끝난 토큰 클레임
+     * @return 폐기 여부
+     */
+    boolean isRevoked(Claims claims);
+}
@@ -0,0 +1,50 @@
+package jinviz.share_depot_be.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+
+/**
+ * 인증된 사용자 정보
+ * JWT 클레임(sub, user_id, roles) 또는 DB 조회 결과로 생성된다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class UserPrincipal implements UserDetails {
+
+    private final Integer userId;
+    private final String email;
+    // 토큰 기반 인증에서는 비밀번호를 알 수 없으므로 null
+    private final String password;
+    private final Collection<? extends GrantedAuthority> authorities;
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
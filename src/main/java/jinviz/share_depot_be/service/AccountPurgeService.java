@@ -0,0 +1,238 @@
+package jinviz.share_depot_be.service;
+
+import jinviz.share_depot_be.entity.PurgeJob;
+import jinviz.share_depot_be.event.PostActivityEvent;
+import jinviz.share_depot_be.repository.CommentRepository;
+import jinviz.share_depot_be.repository.LikeRepository;
+import jinviz.share_depot_be.repository.PostChildReference;
+import jinviz.share_depot_be.repository.PostRepository;
+import jinviz.share_depot_be.repository.PurgeJobRepository;
+import jinviz.share_depot_be.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 탈퇴 계정 정리 서비스
+ * 탈퇴 요청은 계정을 숨기고 PURGE_JOBS에 작업만 등록하며, 실제 삭제는 백그라운드에서 단계별로 나누어 처리한다.
+ * 배치 하나의 삭제와 진행 상황 갱신은 같은 트랜잭션으로 커밋되어, 중간에 서버가 내려가도 남은 행부터 이어서 삭제한다.
+ * 실패한 작업은 지수 백오프로 다시 시도하고, 최대 시도 횟수를 넘기면 중단한 뒤 오류 로그로 남긴다. (attempts를 0으로 되돌리면 재개)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountPurgeService {
+
+    @Value("${user.purge.batch-size:500}")
+    private int batchSize;
+
+    @Value("${user.purge.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${user.purge.jobs-per-run:10}")
+    private int jobsPerRun;
+
+    @Value("${user.purge.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${user.purge.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+
+    @Value("${user.purge.backoff-max-seconds:3600}")
+    private long backoffMaxSeconds;
+
+    private final PurgeJobRepository purgeJobRepository;
+    private final LikeRepository likeRepository;
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    @PostConstruct
+    protected void init() {
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 정리 작업 등록 (호출한 트랜잭션에 참여)
+     * @param userId 탈퇴한 사용자 ID
+     */
+    public void enqueue(Integer userId) {
+        if (purgeJobRepository.existsByUserId(userId)) {
+            return;
+        }
+        purgeJobRepository.save(PurgeJob.builder()
+                .userId(userId)
+                .stage(PurgeJob.Stage.LIKES)
+                .deletedRows(0L)
+                .attempts(0)
+                .build());
+    }
+
+    /**
+     * 대기 중인 정리 작업 처리
+     * 한 번 실행할 때 작업마다 최대 maxBatchesPerRun개 배치까지만 처리하여 DB 부하를 제한한다.
+     */
+    @Scheduled(fixedDelayString = "${user.purge.interval-ms:5000}")
+    public void purgePending() {
+        List<PurgeJob> jobs = purgeJobRepository.findRunnable(
+                PurgeJob.Stage.DONE, maxAttempts, LocalDateTime.now(), PageRequest.of(0, jobsPerRun));
+
+        for (PurgeJob job : jobs) {
+            try {
+                for (int i = 0; i < maxBatchesPerRun; i++) {
+                    if (!Boolean.TRUE.equals(transaction.execute(status -> purgeBatch(job.getPurgeJobId())))) {
+                        break;
+                    }
+                }
+            } catch (RuntimeException e) {
+                // 실패한 배치는 롤백되므로 다음 실행 때 같은 단계부터 다시 시도
+                log.warn("Failed to purge account {}: {}", job.getUserId(), e.getMessage());
+                transaction.executeWithoutResult(status -> purgeJobRepository.findById(job.getPurgeJobId())
+                        .ifPresent(failed -> recordFailure(failed, e)));
+            }
+        }
+    }
+
+    /**
+     * 최대 시도 횟수를 넘겨 중단된 정리 작업 보고
+     */
+    @Scheduled(cron = "${user.purge.stuck-report-cron:0 0 * * * *}")
+    public void reportStuckJobs() {
+        for (PurgeJob job : purgeJobRepository.findByStageNotAndAttemptsGreaterThanEqual(PurgeJob.Stage.DONE, maxAttempts)) {
+            log.error("Account purge for user {} is stuck at stage {} after {} attempts: {}",
+                    job.getUserId(), job.getStage(), job.getAttempts(), job.getLastError());
+        }
+    }
+
+    /**
+     * 실패 기록과 다음 시도 시각 계산 (지수 백오프)
+     */
+    private void recordFailure(PurgeJob job, RuntimeException e) {
+        int attempts = job.getAttempts() + 1;
+        long delaySeconds = Math.min(backoffMaxSeconds, backoffBaseSeconds << Math.min(attempts - 1, 20));
+        job.setAttempts(attempts);
+        job.setNextAttemptAt(LocalDateTime.now().plusSeconds(delaySeconds));
+        job.setLastError(StringUtils.abbreviate(e.getMessage(), 500));
+        purgeJobRepository.save(job);
+
+        if (attempts >= maxAttempts) {
+            log.error("Giving up account purge for user {} at stage {} after {} attempts: {}",
+                    job.getUserId(), job.getStage(), attempts, job.getLastError());
+        }
+    }
+
+    /**
+     * 현재 단계의 배치 하나 처리
+     * @param purgeJobId 정리 작업 ID
+     * @return 남은 작업이 있으면 true
+     */
+    private boolean purgeBatch(Integer purgeJobId) {
+        PurgeJob job = purgeJobRepository.findById(purgeJobId).orElse(null);
+        if (job == null || job.getStage() == PurgeJob.Stage.DONE) {
+            return false;
+        }
+
+        Integer userId = job.getUserId();
+        PageRequest batch = PageRequest.of(0, batchSize);
+        int deleted = switch (job.getStage()) {
+            case LIKES -> purgeLikesByUser(userId, batch);
+            case COMMENTS -> purgeCommentsByUser(userId, batch);
+            case POST_LIKES -> deleteLikes(likeRepository.findIdsOnPostsByUserId(userId, batch));
+            case POST_COMMENTS -> deleteComments(commentRepository.findIdsOnPostsByUserId(userId, batch));
+            case POSTS -> deletePosts(postRepository.lockPostIdsByUserId(userId, batchSize));
+            case USER -> userRepository.deleteByUserId(userId);
+            case DONE -> 0;
+        };
+
+        // 배치를 다 채우지 못했으면 현재 단계의 행이 더 없으므로 다음 단계로 이동
+        if (deleted < batchSize) {
+            job.setStage(job.getStage().next());
+        }
+        job.setDeletedRows(job.getDeletedRows() + deleted);
+        job.setAttempts(0);
+        job.setNextAttemptAt(null);
+        job.setLastError(null);
+        // 사용자 삭제 쿼리가 영속성 컨텍스트를 비우므로 병합으로 저장
+        purgeJobRepository.save(job);
+
+        if (job.getStage() == PurgeJob.Stage.DONE) {
+            log.info("Purged account {} ({} rows)", userId, job.getDeletedRows());
+        }
+        return job.getStage() != PurgeJob.Stage.DONE;
+    }
+
+    /**
+     * 사용자가 남긴 좋아요 삭제 (다른 게시글의 좋아요 수도 함께 차감)
+     */
+    private int purgeLikesByUser(Integer userId, PageRequest batch) {
+        List<PostChildReference> likes = likeRepository.findReferencesByUserId(userId, batch);
+        countByPost(likes).forEach((postId, count) -> {
+            postRepository.addLikeCount(postId, -count);
+            eventPublisher.publishEvent(PostActivityEvent.liked(postId, -count));
+        });
+        return deleteLikes(likes.stream().map(PostChildReference::getId).toList());
+    }
+
+    /**
+     * 사용자가 남긴 댓글 삭제 (다른 게시글의 댓글 수도 함께 차감)
+     */
+    private int purgeCommentsByUser(Integer userId, PageRequest batch) {
+        List<PostChildReference> comments = commentRepository.findReferencesByUserId(userId, batch);
+        countByPost(comments).forEach((postId, count) -> {
+            postRepository.addCommentCount(postId, -count);
+            eventPublisher.publishEvent(PostActivityEvent.commented(postId, -count));
+        });
+        return deleteComments(comments.stream().map(PostChildReference::getId).toList());
+    }
+
+    private int deleteLikes(List<Integer> likeIds) {
+        if (!likeIds.isEmpty()) {
+            likeRepository.deleteAllByIdInBatch(likeIds);
+        }
+        return likeIds.size();
+    }
+
+    private int deleteComments(List<Integer> commentIds) {
+        if (!commentIds.isEmpty()) {
+            commentRepository.deleteAllByIdInBatch(commentIds);
+        }
+        return commentIds.size();
+    }
+
+    /**
+     * 사용자 게시글 삭제
+     * 게시글을 잠근 뒤 그사이 추가된 좋아요/댓글까지 같은 트랜잭션에서 지우므로 외래 키 오류 없이 삭제된다.
+     * 메모리 인덱스/캐시에서도 배치 단위로 제거한다. (커밋 후 반영)
+     */
+    private int deletePosts(List<Integer> postIds) {
+        if (!postIds.isEmpty()) {
+            likeRepository.deleteByPostIdIn(postIds);
+            commentRepository.deleteByPostIdIn(postIds);
+            postRepository.deleteAllByIdInBatch(postIds);
+            postIds.forEach(postId -> eventPublisher.publishEvent(PostActivityEvent.deleted(postId)));
+        }
+        return postIds.size();
+    }
+
+    private Map<Integer, Integer> countByPost(List<PostChildReference> references) {
+        return references.stream()
+                .collect(Collectors.groupingBy(PostChildReference::getPostId, Collectors.summingInt(reference -> 1)));
+    }
+}
@@ -1,11 +1,14 @@
 package jinviz.share_depot_be.service;
 
+import io.jsonwebtoken.Claims;
 import jinviz.share_depot_be.dto.UserDTOs;
 import jinviz.share_depot_be.entity.User;
 import jinviz.share_depot_be.exception.CustomException;
 import jinviz.share_depot_be.exception.ErrorCode;
 import jinviz.share_depot_be.repository.UserRepository;
 import jinviz.share_depot_be.security.JwtTokenProvider;
+import jinviz.share_depot_be.security.TokenRevocationStore;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -23,6 +26,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
+    private final TokenRevocationStore tokenRevocationStore;
 
     /**
      * 회원가입
@@ -82,4 +86,28 @@ public class AuthService {
             throw new CustomException(ErrorCode.INVALID_CREDENTIALS);
         }
     }
+
+    /**
+     * 로그아웃
+     * 현재 요청의 토큰을 폐기하여 만료 전이라도 더 이상 사용할 수 없게 한다.
+     * @param request HTTP 요청
+     */
+    public void logout(HttpServletRequest request) {
+        String token = jwtTokenProvider.resolveToken(request);
+        if (token == null) {
+            throw new CustomException(ErrorCode.JWT_TOKEN_MISSING);
+        }
+
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        if (claims == null) {
+            throw new CustomException(ErrorCode.JWT_TOKEN_INVALID);
+        }
+
+        // 토큰 ID가 없는 이전 형식의 토큰은 사용자 단위로 폐기
+        if (claims.getId() != null) {
+            tokenRevocationStore.revokeToken(claims.getId(), claims.getExpiration());
+        } else {
+            tokenRevocationStore.revokeUser(claims.get("user_id", Integer.class));
+        }
+    }
 }
\ No newline at end of file
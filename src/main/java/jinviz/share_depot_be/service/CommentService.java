@@ -4,17 +4,24 @@ import jinviz.share_depot_be.dto.CommentDTOs;
 import jinviz.share_depot_be.entity.Comment;
 import jinviz.share_depot_be.entity.Post;
 import jinviz.share_depot_be.entity.User;
+import jinviz.share_depot_be.event.PostActivityEvent;
 import jinviz.share_depot_be.exception.CustomException;
 import jinviz.share_depot_be.exception.ErrorCode;
 import jinviz.share_depot_be.repository.CommentRepository;
 import jinviz.share_depot_be.repository.PostRepository;
 import jinviz.share_depot_be.repository.UserRepository;
+import jinviz.share_depot_be.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,60 +32,113 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 게시글 상세 응답에 포함하는 댓글 수
+    @Value("${post.detail.comment-preview-size:20}")
+    private int commentPreviewSize;
 
     /**
      * 댓글 생성
      * @param postId 게시글 ID
-     * @param email 현재 로그인한 사용자 이메일
+     * @param userId 현재 로그인한 사용자 ID
      * @param request 댓글 생성 요청 DTO
      * @return 생성된 댓글 응답 DTO
      */
     @Transactional
-    public CommentDTOs.CommentResponse createComment(Integer postId, String email, CommentDTOs.CommentCreateRequest request) {
-        User user = userRepository.findByEmail(email)
+    public CommentDTOs.CommentResponse createComment(Integer postId, Integer userId, CommentDTOs.CommentCreateRequest request) {
+        // 응답에 작성자 정보(닉네임, 프로필 이미지)가 필요하므로 기본 키로 조회
+        User user = userRepository.findById(userId)
+                .filter(found -> found.getDeletedAt() == null)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        Post post = postRepository.findById(postId)
+        // 탈퇴한 사용자의 게시글(정리 대기 중)에는 댓글을 달 수 없음
+        Post post = postRepository.findVisibleById(postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
 
         Comment comment = request.toEntity(user, post);
         Comment savedComment = commentRepository.save(comment);
+        postRepository.addCommentCount(postId, 1);
+        eventPublisher.publishEvent(PostActivityEvent.commented(postId, 1));
 
         return CommentDTOs.CommentResponse.fromEntity(savedComment);
     }
 
     /**
-     * 게시글별 댓글 조회
+     * 게시글별 댓글 조회 (작성순 처음 limit개)
+     * 커서 조회의 첫 페이지와 같은 쿼리를 사용하므로 작성자를 함께 조회하고 탈퇴한 사용자의 댓글은 제외한다.
+     * 나머지 댓글은 커서 조회(after)로 이어서 받는다.
      * @param postId 게시글 ID
+     * @param limit 최대 댓글 수
      * @return 댓글 응답 DTO 목록
      */
     @Transactional(readOnly = true)
-    public List<CommentDTOs.CommentResponse> getCommentsByPost(Integer postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
+    public List<CommentDTOs.CommentResponse> getCommentsByPost(Integer postId, int limit) {
+        return getCommentsByCursor(postId, "", limit).getComments();
+    }
 
-        return commentRepository.findByPostOrderByCreatedAtAsc(post).stream()
-                .map(CommentDTOs.CommentResponse::fromEntity)
-                .collect(Collectors.toList());
+    /**
+     * 게시글별 댓글 커서 조회 (작성순)
+     * OFFSET 없이 (createdAt, commentId) 키셋으로 탐색하고 작성자는 같은 쿼리에서 함께 조회한다.
+     * @param postId 게시글 ID
+     * @param after 이전 응답의 nextCursor (첫 페이지는 빈 값)
+     * @param size 페이지 크기
+     * @return 댓글 커서 응답 DTO
+     */
+    @Transactional(readOnly = true)
+    public CommentDTOs.CommentCursorResponse getCommentsByCursor(Integer postId, String after, int size) {
+        PageRequest limit = PageRequest.of(0, size + 1);
+
+        List<Comment> comments;
+        if (StringUtils.hasText(after)) {
+            String[] parts = CursorCodec.decode(after, 2);
+            LocalDateTime createdAt = CursorCodec.parse(parts[0], LocalDateTime::parse);
+            Integer commentId = CursorCodec.parse(parts[1], Integer::valueOf);
+            comments = commentRepository.findByPostAfterWithUser(postId, createdAt, commentId, limit);
+        } else {
+            comments = commentRepository.findFirstByPostWithUser(postId, limit);
+            if (comments.isEmpty() && !postRepository.existsById(postId)) {
+                throw new CustomException(ErrorCode.POST_NOT_FOUND);
+            }
+        }
+
+        boolean hasNext = comments.size() > size;
+        List<Comment> page = hasNext ? comments.subList(0, size) : comments;
+        Comment last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return CommentDTOs.CommentCursorResponse.builder()
+                .comments(page.stream()
+                        .map(CommentDTOs.CommentResponse::fromEntity)
+                        .collect(Collectors.toList()))
+                .nextCursor(hasNext ? CursorCodec.encode(last.getCreatedAt(), last.getCommentId()) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 게시글 상세 응답용 댓글 미리보기 (처음 N개)
+     * @param postId 게시글 ID
+     * @return 댓글 커서 응답 DTO
+     */
+    @Transactional(readOnly = true)
+    public CommentDTOs.CommentCursorResponse getCommentPreview(Integer postId) {
+        return getCommentsByCursor(postId, "", commentPreviewSize);
     }
 
     /**
      * 댓글 수정
      * @param commentId 댓글 ID
-     * @param email 현재 로그인한 사용자 이메일
+     * @param userId 현재 로그인한 사용자 ID
      * @param request 댓글 수정 요청 DTO
      * @return 수정된 댓글 응답 DTO
      */
     @Transactional
-    public CommentDTOs.CommentResponse updateComment(Integer commentId, String email, CommentDTOs.CommentUpdateRequest request) {
+    public CommentDTOs.CommentResponse updateComment(Integer commentId, Integer userId, CommentDTOs.CommentUpdateRequest request) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
         // 작성자 확인
-        if (!comment.getUser().getUserId().equals(user.getUserId())) {
+        if (!comment.getUser().getUserId().equals(userId)) {
             throw new CustomException(ErrorCode.UNAUTHORIZED_ACTION);
         }
 
@@ -86,28 +146,30 @@ public class CommentService {
         comment.setContent(request.getContent());
         Comment updatedComment = commentRepository.save(comment);
 
+        // 댓글 수는 그대로이지만 상세 캐시의 댓글 목록은 갱신되어야 함
+        eventPublisher.publishEvent(PostActivityEvent.commented(comment.getPost().getPostId(), 0));
+
         return CommentDTOs.CommentResponse.fromEntity(updatedComment);
     }
 
     /**
      * 댓글 삭제
      * @param commentId 댓글 ID
-     * @param email 현재 로그인한 사용자 이메일
+     * @param userId 현재 로그인한 사용자 ID
      */
     @Transactional
-    public void deleteComment(Integer commentId, String email) {
+    public void deleteComment(Integer commentId, Integer userId) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
         // 작성자 확인
-        if (!comment.getUser().getUserId().equals(user.getUserId())) {
+        if (!comment.getUser().getUserId().equals(userId)) {
             throw new CustomException(ErrorCode.UNAUTHORIZED_ACTION);
         }
 
         commentRepository.delete(comment);
+        postRepository.addCommentCount(comment.getPost().getPostId(), -1);
+        eventPublisher.publishEvent(PostActivityEvent.commented(comment.getPost().getPostId(), -1));
     }
 
     /**
@@ -0,0 +1,153 @@
+package jinviz.share_depot_be.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jinviz.share_depot_be.storage.StorageBackend;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 작은 파일 내용 캐시 (프로필 이미지, 썸네일 등)
+ * 크기 기준 이하의 파일은 내용을 direct ByteBuffer(힙 밖)에 올려 두고, 다운로드 요청 시 저장소를 거치지 않고 응답한다.
+ * 전체 바이트 합계로 용량을 제한하며 Caffeine(W-TinyLFU)이 자주 쓰이는 파일을 남긴다.
+ * 큰 파일은 내용 없이 저장 키와 크기만 보관하여 요청마다 저장소를 조회하지 않게 한다.
+ * 요청 너비는 변환본 너비로 맞춘 값을 키로 사용하므로 임의의 너비로 항목이 늘어나지 않는다.
+ * 제거된 버퍼의 메모리는 GC가 버퍼 객체를 회수할 때 반환된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileContentCache {
+
+    // 내용 없이 파일 정보만 보관하는 항목의 가중치 (바이트 추정치)
+    private static final int METADATA_WEIGHT = 256;
+
+    // 변환본 대신 원본을 보관한 항목은 변환본이 생기면 곧 바뀌도록 짧게 보관
+    private static final Duration FALLBACK_TTL = Duration.ofSeconds(60);
+
+    @Value("${file.cache.max-bytes:64MB}")
+    private DataSize maxBytes;
+
+    @Value("${file.cache.max-file-size:256KB}")
+    private DataSize maxFileSize;
+
+    // 항목 보관 시간 (변환본 대신 원본을 보관한 항목은 FALLBACK_TTL)
+    @Value("${file.cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private final StorageBackend storageBackend;
+
+    private Cache<Key, FileService.StoredFile> cache;
+
+    @PostConstruct
+    protected void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes.toBytes())
+                .weigher((Key key, FileService.StoredFile file) ->
+                        file.content() == null ? METADATA_WEIGHT : (int) file.size())
+                .expireAfter(new Expiry<Key, FileService.StoredFile>() {
+                    @Override
+                    public long expireAfterCreate(Key key, FileService.StoredFile file, long currentTime) {
+                        boolean fallback = key.width() != null && !ImageVariantService.isVariantName(file.key());
+                        return (fallback ? FALLBACK_TTL : Duration.ofSeconds(ttlSeconds)).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Key key, FileService.StoredFile file, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, file, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Key key, FileService.StoredFile file, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 파일 조회 (캐시에 없으면 loader로 조회 후 적재, 작은 파일은 내용까지 적재)
+     * 같은 키의 동시 미적중은 한 번만 조회한다.
+     * @param subDirectory 하위 디렉토리
+     * @param filename 파일명
+     * @param width 변환본 너비 (원본이면 null)
+     * @param loader 파일 정보 조회 (캐시 미적중 시)
+     * @return 파일 정보 (작은 파일이면 내용 포함)
+     */
+    public FileService.StoredFile get(String subDirectory, String filename, Integer width,
+                                      Supplier<FileService.StoredFile> loader) {
+        return cache.get(new Key(subDirectory, filename, width), key -> load(loader.get()));
+    }
+
+    /**
+     * 파일의 모든 너비 항목 무효화
+     * @param subDirectory 하위 디렉토리
+     * @param filename 파일명
+     */
+    public void invalidate(String subDirectory, String filename) {
+        cache.asMap().keySet().removeIf(key ->
+                key.subDirectory().equals(subDirectory) && key.filename().equals(filename));
+    }
+
+    /**
+     * 캐시 적중률 기록
+     */
+    @Scheduled(fixedDelayString = "${file.cache.stats-log-interval-ms:60000}")
+    public void logStats() {
+        CacheStats stats = cache.stats();
+        long bytes = cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+        log.info("File content cache: size={}, bytes={}, hitRate={}, hits={}, misses={}, evictions={}",
+                cache.estimatedSize(), bytes, String.format("%.3f", stats.hitRate()),
+                stats.hitCount(), stats.missCount(), stats.evictionCount());
+    }
+
+    private FileService.StoredFile load(FileService.StoredFile file) {
+        if (file.size() > maxFileSize.toBytes()) {
+            return file;
+        }
+        try {
+            return file.withContent(read(file));
+        } catch (IOException e) {
+            // 적재에 실패하면 파일에서 직접 응답
+            log.warn("Failed to cache file {}: {}", file.key(), e.getMessage());
+            return file;
+        }
+    }
+
+    private ByteBuffer read(FileService.StoredFile file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) file.size());
+        try (ReadableByteChannel channel = Channels.newChannel(storageBackend.get(file.key()))) {
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // 파일 끝까지 읽기
+            }
+        }
+        if (buffer.hasRemaining()) {
+            throw new IOException("file is shorter than expected");
+        }
+        // 공유되므로 읽기 전용으로 보관하고, 응답할 때는 duplicate로 위치를 따로 사용
+        return buffer.flip().asReadOnlyBuffer();
+    }
+
+    /**
+     * 캐시 키 (같은 파일도 변환본 너비별로 응답 파일이 다를 수 있음)
+     */
+    private record Key(String subDirectory, String filename, Integer width) {
+    }
+}
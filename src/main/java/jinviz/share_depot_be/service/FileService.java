@@ -3,91 +3,397 @@ package jinviz.share_depot_be.service;
 import jinviz.share_depot_be.dto.FileDTO;
 import jinviz.share_depot_be.exception.CustomException;
 import jinviz.share_depot_be.exception.ErrorCode;
-import org.apache.commons.io.FilenameUtils;
+import jinviz.share_depot_be.repository.FileBlobRepository;
+import jinviz.share_depot_be.storage.StorageBackend;
+import jinviz.share_depot_be.util.ImageTypeSniffer;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Service
+@RequiredArgsConstructor
 public class FileService {
 
-    @Value("${file.upload.directory}")
-    private String uploadDir;
+    // Tomcat sendfile 요청 속성
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 샤딩 디렉토리 이름에 사용하는 파일명 앞부분 길이 (2글자씩 두 단계)
+    private static final int SHARD_PREFIX_LENGTH = 4;
+    private static final Pattern HEX_PREFIX = Pattern.compile("[0-9a-f]{4}");
+
+    // 저장 키에 허용하는 하위 디렉토리/파일명 (경로 구분자와 .으로 시작하는 이름 제외)
+    private static final Pattern SAFE_NAME = Pattern.compile("[A-Za-z0-9_-][A-Za-z0-9._-]*");
+
+    // true: 내용(SHA-256) 기준으로 저장하여 같은 파일은 한 번만 저장
+    @Value("${file.storage.dedup:true}")
+    private boolean dedup;
+
+    // 업로드 파일 최대 크기 (요청 본문을 읽는 중에 검사)
+    @Value("${file.upload.max-size:10MB}")
+    private DataSize maxUploadSize;
+
+    // true: 객체 저장소의 파일은 서명 URL로 리다이렉트
+    @Value("${file.storage.redirect-downloads:true}")
+    private boolean redirectDownloads;
+
+    @Value("${file.storage.presign-ttl-seconds:300}")
+    private long presignTtlSeconds;
+
+    private final StorageBackend storageBackend;
+    private final FileBlobRepository fileBlobRepository;
+    private final ImageVariantService imageVariantService;
+    private final FileContentCache fileContentCache;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    @PostConstruct
+    protected void init() {
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
 
     /**
-     * 파일 업로드
+     * 파일 업로드 (multipart)
      * @param file 업로드할 파일
      * @param subDirectory 하위 디렉토리 (프로필 이미지, 게시글 이미지 등)
      * @return 파일 정보 DTO
      */
     public FileDTO uploadFile(MultipartFile file, String subDirectory) {
+        try (InputStream in = file.getInputStream()) {
+            return store(in, file.getSize(), file.getOriginalFilename(), subDirectory);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+    }
+
+    /**
+     * 파일 업로드 (요청 본문 스트림)
+     * multipart 임시 파일을 거치지 않고 요청 본문을 한 번만 읽어 저장한다.
+     * 본문을 읽는 동안에는 트랜잭션(JDBC 연결)을 잡지 않는다.
+     * @param in 요청 본문
+     * @param contentLength Content-Length (알 수 없으면 -1)
+     * @param originalFilename 원본 파일명 (없으면 null)
+     * @param subDirectory 하위 디렉토리
+     * @return 파일 정보 DTO
+     */
+    public FileDTO uploadStream(InputStream in, long contentLength, String originalFilename, String subDirectory) {
         try {
-            // 원본 파일명 추출
-            String originalFilename = file.getOriginalFilename();
+            return store(in, contentLength, originalFilename, subDirectory);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+    }
+
+    /**
+     * 업로드 스트림 저장
+     * 앞부분 매직 바이트로 이미지 형식을 확인하고, 읽는 동안 크기 제한 검사와 SHA-256 계산을 함께 하며
+     * 임시 파일에 한 번만 쓴 뒤 저장소에 최종 파일명으로 저장한다.
+     * @return 파일 정보 DTO
+     */
+    private FileDTO store(InputStream in, long contentLength, String originalFilename, String subDirectory) throws IOException {
+        long limit = maxUploadSize.toBytes();
+        // 크기를 미리 알 수 있으면 본문을 읽기 전에 거부
+        if (contentLength > limit) {
+            throw new CustomException(ErrorCode.FILE_TOO_LARGE);
+        }
 
-            // 파일 확장자 추출
-            String extension = FilenameUtils.getExtension(originalFilename);
+        // 확장자가 아닌 실제 내용으로 형식 확인
+        byte[] header = in.readNBytes(ImageTypeSniffer.HEADER_LENGTH);
+        if (header.length == 0) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        String extension = ImageTypeSniffer.detectExtension(header)
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_FILE_FORMAT));
 
-            // 저장할 파일명 생성 (UUID + 확장자)
-            String storedFilename = UUID.randomUUID() + "." + extension;
+        // 로컬 저장소는 같은 파일 시스템의 임시 파일에 쓰므로 최종 이동은 복사 없는 rename
+        Path temp = Files.createTempFile(storageBackend.stagingDirectory(), "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long size = copyWithLimit(header, in, temp, digest, limit);
+            return commit(temp, extension, digest, size, originalFilename, subDirectory);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
 
-            // 파일 저장 경로 생성
-            Path uploadPath = Paths.get(uploadDir, subDirectory).toAbsolutePath().normalize();
+    /**
+     * 임시 디렉토리에 모두 기록된 파일을 저장 파일로 등록
+     * 분할 업로드처럼 이미 완성된 파일은 다시 복사하지 않고 저장소로 넘긴다. (로컬 저장소는 rename)
+     * 같은 내용의 파일이 이미 있어 넘기지 않은 경우 원본 파일은 호출한 쪽에서 삭제한다.
+     * @param assembled 기록이 끝난 파일 (stagingDirectory() 안에 있어야 함)
+     * @param originalFilename 원본 파일명
+     * @param subDirectory 하위 디렉토리
+     * @return 파일 정보 DTO
+     */
+    public FileDTO storeAssembled(Path assembled, String originalFilename, String subDirectory) {
+        try (InputStream in = Files.newInputStream(assembled)) {
+            byte[] header = in.readNBytes(ImageTypeSniffer.HEADER_LENGTH);
+            String extension = ImageTypeSniffer.detectExtension(header)
+                    .orElseThrow(() -> new CustomException(ErrorCode.INVALID_FILE_FORMAT));
 
-            // 디렉토리가 없으면 생성
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
+            MessageDigest digest = sha256();
+            digest.update(header);
+            long size = header.length;
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+                size += read;
             }
+            return commit(assembled, extension, digest, size, originalFilename, subDirectory);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+    }
 
-            // 파일 저장
-            Path targetLocation = uploadPath.resolve(storedFilename);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+    /**
+     * 업로드 임시 파일을 기록할 디렉토리 (없으면 생성)
+     * @return 디렉토리 경로
+     */
+    public Path stagingDirectory() throws IOException {
+        return storageBackend.stagingDirectory();
+    }
+
+    /**
+     * 기록이 끝난 파일을 최종 파일명으로 저장
+     * 저장소 업로드는 트랜잭션 밖에서 먼저 하고(내용 기반 파일명이므로 같은 내용을 다시 올려도 무해),
+     * 참조 행 잠금과 파일 존재 확인만 짧은 트랜잭션으로 묶는다.
+     * @return 파일 정보 DTO
+     */
+    private FileDTO commit(Path written, String extension, MessageDigest digest, long size,
+                           String originalFilename, String subDirectory) throws IOException {
+        String storedFilename;
+        if (dedup) {
+            String contentFilename = HexFormat.of().formatHex(digest.digest()) + "." + extension;
+            storedFilename = contentFilename;
+            putIfAbsent(written, extension, subDirectory, contentFilename);
+            try {
+                // 참조 행을 잠근 상태에서 파일 존재를 확인하므로 동시 삭제와 겹치지 않음
+                transaction.executeWithoutResult(status -> {
+                    fileBlobRepository.acquire(subDirectory, contentFilename, size);
+                    if (findUnchecked(subDirectory, contentFilename).isEmpty()) {
+                        // 업로드 직후 같은 내용의 마지막 참조가 삭제되면서 파일도 지워진 경우 (참조 증가는 롤백)
+                        throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        } else {
+            storedFilename = UUID.randomUUID() + "." + extension;
+            putIfAbsent(written, extension, subDirectory, storedFilename);
+        }
 
-            // 파일 접근 URL 생성 - 변경된 부분
-            String fileUrl = String.format("/api/files/%s/%s", subDirectory, storedFilename);
+        // 파일 접근 URL 생성
+        String fileUrl = String.format("/api/files/%s/%s", subDirectory, storedFilename);
+
+        // 파일 정보 DTO 반환
+        return FileDTO.builder()
+                .originalFilename(originalFilename)
+                .storedFilename(storedFilename)
+                .fileUrl(fileUrl)
+                .fileType(ImageTypeSniffer.contentType(extension))
+                .fileSize(size)
+                .build();
+    }
 
-            // 파일 정보 DTO 반환
-            return FileDTO.builder()
-                    .originalFilename(originalFilename)
-                    .storedFilename(storedFilename)
-                    .fileUrl(fileUrl)
-                    .fileType(file.getContentType())
-                    .fileSize(file.getSize())
-                    .build();
+    /**
+     * 저장 파일이 없으면 저장소에 저장
+     * 이전 평면 경로를 포함해 같은 파일이 이미 있으면 그대로 사용한다.
+     */
+    private void putIfAbsent(Path written, String extension, String subDirectory, String storedFilename) throws IOException {
+        if (find(subDirectory, storedFilename).isEmpty()) {
+            String key = shardedKey(subDirectory, storedFilename);
+            storageBackend.put(key, written, ImageTypeSniffer.contentType(extension));
+            // 목록/썸네일용 변환본은 백그라운드에서 생성
+            imageVariantService.generateVariantsAsync(key);
+        }
+    }
 
+    private Optional<Located> findUnchecked(String subDirectory, String filename) {
+        try {
+            return find(subDirectory, filename);
         } catch (IOException e) {
-            throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 스트림을 파일로 복사하면서 해시 계산과 크기 제한 검사
+     * @return 전체 바이트 수
+     */
+    private long copyWithLimit(byte[] header, InputStream in, Path target, MessageDigest digest, long limit) throws IOException {
+        try (OutputStream out = Files.newOutputStream(target, StandardOpenOption.TRUNCATE_EXISTING)) {
+            digest.update(header);
+            out.write(header);
+            long size = header.length;
+
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                size += read;
+                // 제한을 넘는 순간 나머지 본문은 읽지 않고 중단
+                if (size > limit) {
+                    throw new CustomException(ErrorCode.FILE_TOO_LARGE);
+                }
+                digest.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+            }
+            return size;
+        }
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
     /**
-     * 파일 다운로드
+     * 저장된 파일 정보 조회
      * @param subDirectory 하위 디렉토리
      * @param filename 파일명
-     * @return 파일 리소스
+     * @param width 요청 너비 (null이면 원본, 아니면 가장 가까운 변환본)
+     * @return 저장된 파일 정보
      */
-    public Resource downloadFile(String subDirectory, String filename) {
+    public StoredFile getStoredFile(String subDirectory, String filename, Integer width) {
+        // 같은 변환본으로 응답하는 너비는 캐시 항목 하나를 공유
+        Integer variantWidth = imageVariantService.snapWidth(width);
+        // 작은 파일은 메모리에서 바로 응답
+        return fileContentCache.get(subDirectory, filename, variantWidth,
+                () -> statStoredFile(subDirectory, filename, variantWidth));
+    }
+
+    private StoredFile statStoredFile(String subDirectory, String filename, Integer width) {
         try {
-            Path filePath = Paths.get(uploadDir, subDirectory).toAbsolutePath().normalize().resolve(filename);
-            Resource resource = new UrlResource(filePath.toUri());
+            Located original = find(subDirectory, filename)
+                    .orElseThrow(() -> new CustomException(ErrorCode.FILE_NOT_FOUND));
+            String key = imageVariantService.resolve(original.key(), width);
+            StorageBackend.ObjectStat stat = key.equals(original.key())
+                    ? original.stat()
+                    : storageBackend.stat(key).orElseThrow(() -> new CustomException(ErrorCode.FILE_NOT_FOUND));
+            return new StoredFile(key, stat.size(), stat.lastModified(), null);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.FILE_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 다운로드 리다이렉트용 서명 URL
+     * 객체 저장소를 사용하면 클라이언트가 저장소에서 직접 받도록 하여 애플리케이션이 바이트를 중계하지 않는다.
+     * 메모리에 캐시된 작은 파일은 바로 응답하는 편이 빠르므로 제외한다.
+     * @param file 저장된 파일 정보
+     * @return 서명 URL (로컬 저장소이거나 캐시된 파일이면 empty)
+     */
+    public Optional<URI> presignedUrl(StoredFile file) {
+        if (!redirectDownloads || file.content() != null) {
+            return Optional.empty();
+        }
+        return storageBackend.presignGet(file.key(), Duration.ofSeconds(presignTtlSeconds));
+    }
+
+    /**
+     * 파일 구간을 응답 본문으로 전송 (zero-copy)
+     * 캐시된 파일은 메모리 버퍼에서 바로 쓰고, 서블릿 컨테이너가 sendfile을 지원하면 커널이 파일을 소켓으로 직접 보내도록 넘기며,
+     * 아니면 FileChannel.transferTo로 사용자 영역 버퍼 복사 없이 전송한다. 원격 저장소의 파일은 구간을 읽어 그대로 전달한다.
+     * @param file 저장된 파일 정보
+     * @param start 시작 위치 (바이트)
+     * @param length 전송할 길이 (바이트)
+     * @param request HTTP 요청
+     * @param response HTTP 응답
+     * @throws IOException 전송 실패 시 (클라이언트 연결 종료 포함)
+     */
+    public void transfer(StoredFile file, long start, long length,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentLengthLong(length);
 
-            if (resource.exists()) {
-                return resource;
-            } else {
-                throw new CustomException(ErrorCode.FILE_NOT_FOUND);
+        if (file.content() != null) {
+            // 공유 버퍼이므로 복제본의 위치만 옮겨서 사용
+            ByteBuffer slice = file.content().duplicate();
+            slice.position((int) start).limit((int) (start + length));
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            while (slice.hasRemaining()) {
+                target.write(slice);
+            }
+            return;
+        }
+
+        Optional<Path> localPath = storageBackend.localPath(file.key());
+        if (localPath.isEmpty()) {
+            InputStream range;
+            try {
+                range = storageBackend.getRange(file.key(), start, length);
+            } catch (NoSuchFileException e) {
+                String moved = movedKey(file.key()).orElseThrow(() -> e);
+                range = storageBackend.getRange(moved, start, length);
+            }
+            try (InputStream in = range) {
+                in.transferTo(response.getOutputStream());
+            }
+            return;
+        }
+
+        // 조회 후 마이그레이션이 평면 키의 파일을 옮겼으면 샤딩 키 위치에서 전송
+        Path path = localPath.get();
+        if (Files.notExists(path)) {
+            path = movedKey(file.key()).flatMap(storageBackend::localPath).orElse(path);
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
             }
-        } catch (MalformedURLException e) {
-            throw new CustomException(ErrorCode.FILE_NOT_FOUND);
         }
     }
 
@@ -97,12 +403,184 @@ public class FileService {
      * @param filename 파일명
      * @return 삭제 성공 여부
      */
+    @Transactional
     public boolean deleteFile(String subDirectory, String filename) {
         try {
-            Path filePath = Paths.get(uploadDir, subDirectory).toAbsolutePath().normalize().resolve(filename);
-            return Files.deleteIfExists(filePath);
+            String key = locate(subDirectory, filename);
+
+            // 내용 기반 저장 파일은 참조가 남아 있으면 참조만 해제
+            if (fileBlobRepository.release(subDirectory, filename) > 0
+                    && fileBlobRepository.deleteIfUnreferenced(subDirectory, filename) == 0) {
+                return true;
+            }
+            try {
+                return deleteWithVariants(key);
+            } finally {
+                // 삭제 전에 비우면 그 사이 다운로드가 삭제될 파일을 다시 캐시하므로 삭제 후에 비운다
+                fileContentCache.invalidate(subDirectory, filename);
+            }
         } catch (IOException e) {
             throw new CustomException(ErrorCode.FILE_DELETE_ERROR);
         }
     }
+
+    /**
+     * 참조되지 않는 파일 삭제 (업로드 파일 정리 작업용)
+     * 참조 수와 관계없이 파일 행을 삭제하되, 기준 시각 이후 같은 내용이 다시 업로드되었으면 남긴다.
+     * 파일 행을 잠근 채 실제 파일을 삭제하므로 같은 내용의 동시 업로드와 겹치지 않는다.
+     * @param subDirectory 하위 디렉토리
+     * @param filename 파일명
+     * @param acquiredBefore 기준 시각
+     * @return 삭제한 바이트 수 (삭제하지 않았으면 -1)
+     */
+    @Transactional
+    public long deleteIfOrphaned(String subDirectory, String filename, LocalDateTime acquiredBefore) throws IOException {
+        if (fileBlobRepository.deleteIfAcquiredBefore(subDirectory, filename, acquiredBefore) == 0
+                && fileBlobRepository.existsBySubDirectoryAndStoredFilename(subDirectory, filename)) {
+            return -1;
+        }
+
+        Optional<Located> located = find(subDirectory, filename);
+        if (located.isEmpty()) {
+            return -1;
+        }
+        try {
+            return deleteWithVariants(located.get().key()) ? located.get().stat().size() : -1;
+        } finally {
+            fileContentCache.invalidate(subDirectory, filename);
+        }
+    }
+
+    /**
+     * 저장 파일과 변환본 삭제
+     * 파일을 찾은 뒤 삭제하기 전에 마이그레이션이 평면 키의 파일을 옮겼으면 샤딩 키로 한 번 더 삭제한다.
+     * @param key 저장 키
+     * @return 삭제 여부
+     */
+    private boolean deleteWithVariants(String key) throws IOException {
+        imageVariantService.deleteVariants(key);
+        if (storageBackend.delete(key)) {
+            return true;
+        }
+        Optional<String> moved = movedKey(key);
+        if (moved.isEmpty()) {
+            return false;
+        }
+        imageVariantService.deleteVariants(moved.get());
+        return storageBackend.delete(moved.get());
+    }
+
+    /**
+     * 평면 키의 파일이 옮겨 갔을 샤딩 키
+     * @param key 저장 키
+     * @return 샤딩 키 (평면 키가 아니거나 샤딩 대상이 아니면 empty)
+     */
+    private Optional<String> movedKey(String key) {
+        int slash = key.indexOf('/');
+        if (slash < 0 || key.indexOf('/', slash + 1) >= 0) {
+            return Optional.empty();
+        }
+        String sharded = shardedKey(key.substring(0, slash), key.substring(slash + 1));
+        return sharded.equals(key) ? Optional.empty() : Optional.of(sharded);
+    }
+
+    /**
+     * 저장 파일 조회
+     * 샤딩 키를 먼저 확인하고, 아직 옮기지 않은 파일은 이전 평면 키에서 찾는다.
+     * @param subDirectory 하위 디렉토리
+     * @param filename 파일명
+     * @return 저장 키와 파일 정보 (없으면 empty)
+     */
+    private Optional<Located> find(String subDirectory, String filename) throws IOException {
+        String sharded = shardedKey(subDirectory, filename);
+        Optional<StorageBackend.ObjectStat> stat = storageBackend.stat(sharded);
+        if (stat.isPresent()) {
+            return Optional.of(new Located(sharded, stat.get()));
+        }
+        String legacy = legacyKey(subDirectory, filename);
+        if (!legacy.equals(sharded)) {
+            stat = storageBackend.stat(legacy);
+            if (stat.isPresent()) {
+                return Optional.of(new Located(legacy, stat.get()));
+            }
+            // 두 확인 사이에 마이그레이션이 파일을 옮겼을 수 있으므로 샤딩 키를 다시 확인
+            stat = storageBackend.stat(sharded);
+            if (stat.isPresent()) {
+                return Optional.of(new Located(sharded, stat.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 저장 키 조회 (없으면 샤딩 키)
+     */
+    private String locate(String subDirectory, String filename) throws IOException {
+        return find(subDirectory, filename).map(Located::key).orElseGet(() -> shardedKey(subDirectory, filename));
+    }
+
+    /**
+     * 샤딩 저장 키 계산
+     * 디렉토리 하나에 파일이 몰리지 않도록 파일명 앞 4글자(16진수)로 두 단계 하위 디렉토리를 둔다.
+     * 예: posts/3f/a2/3fa2...jpg (변환본 3fa2..._w320.jpg도 같은 디렉토리)
+     * @param subDirectory 하위 디렉토리
+     * @param filename 파일명
+     * @return 저장 키 (16진수로 시작하지 않는 파일명은 평면 키)
+     */
+    public String shardedKey(String subDirectory, String filename) {
+        String legacy = legacyKey(subDirectory, filename);
+        String prefix = filename.length() > SHARD_PREFIX_LENGTH
+                ? filename.substring(0, SHARD_PREFIX_LENGTH).toLowerCase(Locale.ROOT) : "";
+        if (!HEX_PREFIX.matcher(prefix).matches()) {
+            return legacy;
+        }
+        return subDirectory + "/" + prefix.substring(0, 2) + "/" + prefix.substring(2) + "/" + filename;
+    }
+
+    /**
+     * 로컬 저장소 기준 디렉토리
+     * @return 로컬 저장소이면 기준 디렉토리, 아니면 empty
+     */
+    public Optional<Path> localRoot() {
+        return storageBackend.localRoot();
+    }
+
+    /**
+     * 저장 키 계산 (평면 키)
+     * @param subDirectory 하위 디렉토리
+     * @param filename 파일명
+     * @return 저장 키
+     */
+    private String legacyKey(String subDirectory, String filename) {
+        // 업로드 디렉토리 밖의 경로(../ 등)는 허용하지 않음
+        if (!SAFE_NAME.matcher(subDirectory).matches() || !SAFE_NAME.matcher(filename).matches()) {
+            throw new CustomException(ErrorCode.FILE_NOT_FOUND);
+        }
+        return subDirectory + "/" + filename;
+    }
+
+    /**
+     * 저장 키와 파일 정보
+     */
+    private record Located(String key, StorageBackend.ObjectStat stat) {
+    }
+
+    /**
+     * 저장된 파일 정보
+     * @param key 저장 키
+     * @param size 파일 크기 (바이트)
+     * @param lastModified 마지막 수정 시각 (epoch millis)
+     * @param content 캐시된 파일 내용 (읽기 전용, 캐시되지 않았으면 null)
+     */
+    public record StoredFile(String key, long size, long lastModified, ByteBuffer content) {
+
+        /**
+         * 내용을 포함한 파일 정보 생성
+         * @param content 파일 내용
+         * @return 파일 정보
+         */
+        public StoredFile withContent(ByteBuffer content) {
+            return new StoredFile(key, size, lastModified, content);
+        }
+    }
 }
\ No newline at end of file
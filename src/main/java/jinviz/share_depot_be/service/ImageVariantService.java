@@ -0,0 +1,232 @@
+package jinviz.share_depot_be.service;
+
+import jinviz.share_depot_be.storage.StorageBackend;
+import jinviz.share_depot_be.util.ImageTypeSniffer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FilenameUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 업로드 이미지의 고정 너비 변환본 생성
+ * 원본 저장 후 별도 실행기에서 javax.imageio로 너비별 변환본(예: name_w320.jpg)을 만들어 원본과 같은 위치에 저장하고,
+ * 다운로드 시 요청 너비에 가장 가까운 변환본을 찾아 준다.
+ * 압축 폭탄 이미지로 메모리가 고갈되지 않도록, 픽셀 수가 상한을 넘는 원본은 변환하지 않고
+ * 나머지는 가장 큰 변환본 너비 이상이 되는 만큼만 줄여서(서브샘플링) 읽는다.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private static final Set<String> SUPPORTED_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif");
+
+    private final ThreadPoolTaskExecutor imageTaskExecutor;
+    private final StorageBackend storageBackend;
+
+    // 생성할 변환본 너비 (오름차순)
+    private final int[] variantWidths;
+
+    // 변환할 원본의 최대 픽셀 수 (너비 x 높이)
+    private final long maxPixels;
+
+    public ImageVariantService(@Qualifier("imageTaskExecutor") ThreadPoolTaskExecutor imageTaskExecutor,
+                               StorageBackend storageBackend,
+                               @Value("${file.image.variant-widths:64,320,1024}") int[] variantWidths,
+                               @Value("${file.image.max-pixels:40000000}") long maxPixels) {
+        this.imageTaskExecutor = imageTaskExecutor;
+        this.storageBackend = storageBackend;
+        this.variantWidths = Arrays.stream(variantWidths).sorted().toArray();
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * 변환본 생성 요청 (비동기)
+     * @param key 원본 저장 키
+     */
+    public void generateVariantsAsync(String key) {
+        if (!isSupported(key)) {
+            return;
+        }
+        try {
+            imageTaskExecutor.execute(() -> generateVariants(key));
+        } catch (TaskRejectedException e) {
+            // 대기열이 가득 찬 경우 변환본 없이 원본으로 응답
+            log.warn("Image variant queue is full, skipping {}", key);
+        }
+    }
+
+    /**
+     * 요청 너비를 변환본 너비로 맞춤
+     * 요청 너비 이상인 가장 작은 변환본 너비를 돌려주며, 같은 변환본으로 응답하는 요청은 같은 값이 된다.
+     * @param width 요청 너비 (null이면 원본)
+     * @return 변환본 너비 (null이거나 모든 변환본보다 크면 null)
+     */
+    public Integer snapWidth(Integer width) {
+        if (width == null) {
+            return null;
+        }
+        for (int variantWidth : variantWidths) {
+            if (variantWidth >= width) {
+                return variantWidth;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 요청 너비에 맞는 저장 키 조회
+     * 요청 너비 이상인 변환본 중 가장 작은 것을 고르고, 없으면 원본을 사용한다.
+     * @param key 원본 저장 키
+     * @param width 요청 너비 (null이면 원본)
+     * @return 응답할 저장 키
+     */
+    public String resolve(String key, Integer width) throws IOException {
+        if (width == null || !isSupported(key)) {
+            return key;
+        }
+        for (int variantWidth : variantWidths) {
+            if (variantWidth >= width) {
+                String variant = variantKey(key, variantWidth);
+                if (storageBackend.stat(variant).isPresent()) {
+                    return variant;
+                }
+            }
+        }
+        return key;
+    }
+
+    /**
+     * 원본의 변환본 모두 삭제
+     * @param key 원본 저장 키
+     */
+    public void deleteVariants(String key) {
+        for (int variantWidth : variantWidths) {
+            try {
+                storageBackend.delete(variantKey(key, variantWidth));
+            } catch (IOException e) {
+                log.warn("Failed to delete image variant {}: {}", variantKey(key, variantWidth), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 변환본 파일명 여부 (name_w320.jpg 형식)
+     * @param filename 파일명
+     * @return 변환본이면 true
+     */
+    public static boolean isVariantName(String filename) {
+        return FilenameUtils.getBaseName(filename).matches(".+_w\\d+");
+    }
+
+    private void generateVariants(String key) {
+        try (InputStream in = storageBackend.get(key);
+             ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                generateVariants(key, reader);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to generate image variants for {}: {}", key, e.getMessage());
+        }
+    }
+
+    private void generateVariants(String key, ImageReader reader) throws IOException {
+        // 헤더의 크기만 먼저 읽어 픽셀 수 확인 (디코딩 전)
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        if ((long) width * height > maxPixels) {
+            log.warn("Image {} is too large for variants ({}x{} > {} pixels)", key, width, height, maxPixels);
+            return;
+        }
+
+        // 원본보다 큰 변환본은 만들지 않음
+        int[] targets = Arrays.stream(variantWidths).filter(variantWidth -> variantWidth < width).toArray();
+        if (targets.length == 0) {
+            return;
+        }
+
+        // 가장 큰 변환본 너비 이상이 남도록 서브샘플링하여 디코딩
+        int step = Math.max(1, width / targets[targets.length - 1]);
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(step, step, 0, 0);
+        BufferedImage source = reader.read(0, param);
+
+        String format = formatOf(key);
+        for (int variantWidth : targets) {
+            String target = variantKey(key, variantWidth);
+            if (storageBackend.stat(target).isPresent()) {
+                continue;
+            }
+            int variantHeight = Math.max(1, (int) Math.round((double) height * variantWidth / width));
+            store(resize(source, variantWidth, variantHeight, format), format, target);
+        }
+    }
+
+    private BufferedImage resize(BufferedImage source, int width, int height, String format) {
+        // JPEG은 알파 채널을 저장할 수 없음
+        int type = "jpg".equals(format) ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+
+        BufferedImage resized = new BufferedImage(width, height, type);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private void store(BufferedImage image, String format, String key) throws IOException {
+        // 임시 파일에 모두 쓴 뒤 저장하여 다른 요청이 쓰다 만 변환본을 보지 않도록 함
+        Path temp = Files.createTempFile(storageBackend.stagingDirectory(), "variant-", ".tmp");
+        try {
+            if (!ImageIO.write(image, format, temp.toFile())) {
+                return;
+            }
+            storageBackend.put(key, temp, ImageTypeSniffer.contentType(format));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private String variantKey(String key, int width) {
+        return FilenameUtils.removeExtension(key) + "_w" + width + "." + FilenameUtils.getExtension(key);
+    }
+
+    private boolean isSupported(String key) {
+        return SUPPORTED_EXTENSIONS.contains(FilenameUtils.getExtension(key).toLowerCase(Locale.ROOT));
+    }
+
+    private String formatOf(String key) {
+        String extension = FilenameUtils.getExtension(key).toLowerCase(Locale.ROOT);
+        return "jpeg".equals(extension) ? "jpg" : extension;
+    }
+}
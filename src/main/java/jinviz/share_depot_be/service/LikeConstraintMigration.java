@@ -0,0 +1,55 @@
+package jinviz.share_depot_be.service;
+
+import jakarta.annotation.PostConstruct;
+import jinviz.share_depot_be.repository.LikeRepository;
+import jinviz.share_depot_be.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * LIKES (post_id, user_id) 유니크 제약 보장
+ * 기존 테이블에 중복 행이 있으면 ddl-auto=update의 제약 추가가 조용히 실패하므로,
+ * 서버 시작 시 중복을 정리하고 제약을 추가한다. 그래도 제약이 없으면 시작을 중단한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeConstraintMigration {
+
+    private final LikeRepository likeRepository;
+    private final PostRepository postRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @PostConstruct
+    protected void ensureUniqueConstraint() {
+        if (likeRepository.countUniqueConstraint() > 0) {
+            return;
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // 중복 삭제와 해당 게시글의 좋아요 수 재계산을 한 트랜잭션으로 처리
+        transaction.executeWithoutResult(status -> {
+            List<Integer> postIds = likeRepository.findPostIdsWithDuplicates();
+            if (postIds.isEmpty()) {
+                return;
+            }
+            int deleted = likeRepository.deleteDuplicates();
+            postIds.forEach(postId -> postRepository.reconcileCounters(postId, postId));
+            log.warn("Removed {} duplicate likes on {} posts", deleted, postIds.size());
+        });
+
+        // ALTER TABLE은 MySQL에서 암묵적으로 커밋되므로 별도 트랜잭션으로 실행
+        transaction.executeWithoutResult(status -> likeRepository.addUniqueConstraint());
+
+        if (likeRepository.countUniqueConstraint() == 0) {
+            throw new IllegalStateException("Unique constraint uk_likes_post_id_user_id is missing on LIKES");
+        }
+        log.info("Created unique constraint uk_likes_post_id_user_id on LIKES");
+    }
+}
@@ -1,63 +1,128 @@
 package jinviz.share_depot_be.service;
 
 import jinviz.share_depot_be.dto.LikeDTOs;
-import jinviz.share_depot_be.entity.Like;
-import jinviz.share_depot_be.entity.Post;
-import jinviz.share_depot_be.entity.User;
+import jinviz.share_depot_be.event.PostActivityEvent;
 import jinviz.share_depot_be.exception.CustomException;
 import jinviz.share_depot_be.exception.ErrorCode;
 import jinviz.share_depot_be.repository.LikeRepository;
 import jinviz.share_depot_be.repository.PostRepository;
-import jinviz.share_depot_be.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class LikeService {
 
+    // 좋아요 상태 일괄 조회 시 한 번에 받을 수 있는 게시글 수
+    private static final int MAX_STATUS_BATCH_SIZE = 100;
+
     private final LikeRepository likeRepository;
     private final PostRepository postRepository;
-    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 여러 게시글의 좋아요 여부 일괄 조회 (목록 페이지용)
+     * 게시글마다 조회하지 않고 IN 쿼리 한 번으로 처리한다.
+     * @param postIds 게시글 ID 목록
+     * @param userId 현재 로그인한 사용자 ID
+     * @return 좋아요 상태 일괄 조회 DTO
+     */
+    @Transactional(readOnly = true)
+    public LikeDTOs.LikeStatusBatchResponse getLikeStatuses(List<Integer> postIds, Integer userId) {
+        if (postIds.size() > MAX_STATUS_BATCH_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Set<Integer> likedPostIds = postIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(likeRepository.findLikedPostIds(userId, postIds));
+
+        // 요청한 순서대로 응답
+        Map<Integer, Boolean> liked = new LinkedHashMap<>();
+        for (Integer postId : postIds) {
+            liked.put(postId, likedPostIds.contains(postId));
+        }
+
+        return LikeDTOs.LikeStatusBatchResponse.builder()
+                .liked(liked)
+                .build();
+    }
+
+    /**
+     * 좋아요 추가 (멱등)
+     * INSERT IGNORE 한 번으로 처리하고, 실제로 추가된 경우에만 좋아요 수를 증가시킨다.
+     * @param postId 게시글 ID
+     * @param userId 현재 로그인한 사용자 ID
+     * @return 좋아요 응답 DTO
+     */
+    @Transactional
+    public LikeDTOs.LikeResponse like(Integer postId, Integer userId) {
+        int inserted = likeRepository.insertIgnore(postId, userId);
+        return applyLikeChange(postId, inserted, true);
+    }
+
+    /**
+     * 좋아요 취소 (멱등)
+     * DELETE 한 번으로 처리하고, 실제로 삭제된 경우에만 좋아요 수를 감소시킨다.
+     * @param postId 게시글 ID
+     * @param userId 현재 로그인한 사용자 ID
+     * @return 좋아요 응답 DTO
+     */
+    @Transactional
+    public LikeDTOs.LikeResponse unlike(Integer postId, Integer userId) {
+        int deleted = likeRepository.deleteByPostIdAndUserId(postId, userId);
+        return applyLikeChange(postId, -deleted, false);
+    }
 
     /**
      * 좋아요 추가/취소 토글
+     * 먼저 삭제를 시도하고, 삭제된 좋아요가 없으면 추가한다.
      * @param postId 게시글 ID
-     * @param email 현재 로그인한 사용자 이메일
+     * @param userId 현재 로그인한 사용자 ID
      * @return 좋아요 응답 DTO
      */
     @Transactional
-    public LikeDTOs.LikeResponse toggleLike(Integer postId, String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
-
-        Optional<Like> existingLike = likeRepository.findByPostAndUser(post, user);
-
-        // 좋아요가 이미 존재하면 취소, 아니면 추가
-        if (existingLike.isPresent()) {
-            likeRepository.delete(existingLike.get());
-            return LikeDTOs.LikeResponse.builder()
-                    .postId(postId)
-                    .likesCount((int) likeRepository.countByPost(post))
-                    .userLiked(false)
-                    .build();
-        } else {
-            Like like = Like.builder()
-                    .post(post)
-                    .user(user)
-                    .build();
-            likeRepository.save(like);
-            return LikeDTOs.LikeResponse.builder()
-                    .postId(postId)
-                    .likesCount((int) likeRepository.countByPost(post))
-                    .userLiked(true)
-                    .build();
+    public LikeDTOs.LikeResponse toggleLike(Integer postId, Integer userId) {
+        int deleted = likeRepository.deleteByPostIdAndUserId(postId, userId);
+        if (deleted > 0) {
+            return applyLikeChange(postId, -deleted, false);
         }
+
+        int inserted = likeRepository.insertIgnore(postId, userId);
+        return applyLikeChange(postId, inserted, true);
+    }
+
+    /**
+     * 좋아요 행 변경 결과를 게시글 좋아요 수에 반영
+     * @param postId 게시글 ID
+     * @param delta 좋아요 수 증감량 (변경된 행이 없으면 0)
+     * @param userLiked 처리 후 좋아요 여부
+     * @return 좋아요 응답 DTO
+     */
+    private LikeDTOs.LikeResponse applyLikeChange(Integer postId, int delta, boolean userLiked) {
+        if (delta != 0) {
+            postRepository.addLikeCount(postId, delta);
+            eventPublisher.publishEvent(PostActivityEvent.liked(postId, delta));
+        }
+
+        // 게시글이 없으면 INSERT IGNORE가 외래 키 오류를 무시하므로 여기서 확인
+        Integer likesCount = postRepository.findLikeCountById(postId);
+        if (likesCount == null) {
+            throw new CustomException(ErrorCode.POST_NOT_FOUND);
+        }
+
+        return LikeDTOs.LikeResponse.builder()
+                .postId(postId)
+                .likesCount(likesCount)
+                .userLiked(userLiked)
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,217 @@
+package jinviz.share_depot_be.service;
+
+import jinviz.share_depot_be.exception.CustomException;
+import jinviz.share_depot_be.repository.PostImageProjection;
+import jinviz.share_depot_be.repository.PostRepository;
+import jinviz.share_depot_be.repository.UserImageProjection;
+import jinviz.share_depot_be.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 참조되지 않는 업로드 파일 정리 (mark-and-sweep)
+ * 업로드 파일은 게시글 썸네일/본문과 프로필 이미지에 URL 문자열로만 연결되므로,
+ * POSTS/USERS를 ID 순으로 나누어 읽어 참조 중인 파일을 모은 뒤(mark) 업로드 디렉토리에서 나머지를 삭제한다(sweep).
+ * 업로드 후 아직 첨부되지 않은 파일을 지우지 않도록 유예 시간보다 오래된 파일만 삭제하고,
+ * 서비스 중인 디스크 I/O에 영향을 주지 않도록 초당 확인하는 파일 수를 제한한다.
+ * 속도 제한 때문에 오래 걸리므로 스케줄러 스레드가 아닌 전용 실행기(fileGcTaskExecutor)에서 실행한다.
+ */
+@Slf4j
+@Component
+public class OrphanFileCollector {
+
+    // 다운로드 API URL과 정적 리소스 URL (/api/files/posts/abc.jpg, /uploads/posts/abc.jpg)
+    private static final Pattern FILE_URL = Pattern.compile("(?:/api/files|/uploads)/([A-Za-z0-9_-]+)/([A-Za-z0-9._-]+)");
+
+    @Value("${file.gc.enabled:true}")
+    private boolean enabled;
+
+    @Value("${file.gc.grace-hours:24}")
+    private long graceHours;
+
+    @Value("${file.gc.batch-size:500}")
+    private int batchSize;
+
+    @Value("${file.gc.max-files-per-second:200}")
+    private int maxFilesPerSecond;
+
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final FileService fileService;
+    private final ThreadPoolTaskExecutor fileGcTaskExecutor;
+
+    public OrphanFileCollector(PostRepository postRepository,
+                               UserRepository userRepository,
+                               FileService fileService,
+                               @Qualifier("fileGcTaskExecutor") ThreadPoolTaskExecutor fileGcTaskExecutor) {
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.fileService = fileService;
+        this.fileGcTaskExecutor = fileGcTaskExecutor;
+    }
+
+    /**
+     * 정리 작업 시작 (전용 실행기에 넘기고 바로 반환)
+     */
+    @Scheduled(cron = "${file.gc.cron:0 30 4 * * *}")
+    public void collect() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            fileGcTaskExecutor.execute(this::run);
+        } catch (TaskRejectedException e) {
+            log.warn("Orphan file collection is still running, skipping this run");
+        }
+    }
+
+    /**
+     * 정리 작업 실행
+     */
+    private void run() {
+        try {
+            // 표시 단계보다 먼저 기준 시각을 정해, 표시 중 업로드/첨부된 파일이 삭제 대상에 들지 않도록 함
+            Instant cutoff = Instant.now().minus(Duration.ofHours(graceHours));
+            Set<String> referenced = markReferenced();
+            sweep(referenced, cutoff);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Orphan file collection failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글과 사용자가 참조하는 파일 수집
+     * @return 참조 중인 파일 ("하위 디렉토리/파일명")
+     */
+    private Set<String> markReferenced() {
+        Set<String> referenced = new HashSet<>();
+
+        int afterId = 0;
+        List<PostImageProjection> posts;
+        do {
+            posts = postRepository.findImagesAfter(afterId, PageRequest.of(0, batchSize));
+            for (PostImageProjection post : posts) {
+                addReferences(post.getThumbnailImage(), referenced);
+                addReferences(post.getContent(), referenced);
+                afterId = post.getPostId();
+            }
+        } while (posts.size() == batchSize);
+
+        afterId = 0;
+        List<UserImageProjection> users;
+        do {
+            users = userRepository.findProfileImagesAfter(afterId, PageRequest.of(0, batchSize));
+            for (UserImageProjection user : users) {
+                addReferences(user.getProfileImage(), referenced);
+                afterId = user.getUserId();
+            }
+        } while (users.size() == batchSize);
+
+        return referenced;
+    }
+
+    /**
+     * 업로드 디렉토리를 순회하며 참조되지 않는 오래된 파일 삭제
+     * 변환본은 원본과 함께 삭제되고, 작성 중인 임시 파일(.tmp)과 분할 업로드 파일(.part)은 건너뛴다.
+     */
+    private void sweep(Set<String> referenced, Instant cutoff) throws IOException {
+        // 디렉토리 순회가 가능한 로컬 저장소에만 해당
+        Path baseDir = fileService.localRoot().orElse(null);
+        if (baseDir == null || !Files.isDirectory(baseDir)) {
+            return;
+        }
+
+        LocalDateTime acquiredBefore = LocalDateTime.ofInstant(cutoff, ZoneId.systemDefault());
+        long intervalNanos = 1_000_000_000L / Math.max(1, maxFilesPerSecond);
+        long nextAt = System.nanoTime();
+        long visited = 0;
+        long deleted = 0;
+        long freedBytes = 0;
+
+        try (Stream<Path> files = Files.walk(baseDir)) {
+            Iterator<Path> iterator = files.iterator();
+            while (iterator.hasNext()) {
+                // 종료 시 실행기가 인터럽트하면 중단
+                if (Thread.currentThread().isInterrupted()) {
+                    log.info("Orphan file collection interrupted");
+                    break;
+                }
+                Path file = iterator.next();
+                String filename = file.getFileName().toString();
+                if (filename.endsWith(".tmp") || filename.endsWith(UploadSessionService.PART_SUFFIX)
+                        || ImageVariantService.isVariantName(filename)) {
+                    continue;
+                }
+
+                // 초당 확인 파일 수 제한
+                long now = System.nanoTime();
+                if (nextAt > now) {
+                    LockSupport.parkNanos(nextAt - now);
+                }
+                nextAt = Math.max(now, nextAt) + intervalNanos;
+
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    if (!attributes.isRegularFile() || attributes.lastModifiedTime().toInstant().isAfter(cutoff)
+                            || baseDir.relativize(file).getNameCount() < 2) {
+                        continue;
+                    }
+                    visited++;
+
+                    // 하위 디렉토리는 업로드 기준 디렉토리 바로 아래 이름 (샤딩 디렉토리와 무관)
+                    String subDirectory = baseDir.relativize(file).getName(0).toString();
+                    if (referenced.contains(subDirectory + "/" + filename)) {
+                        continue;
+                    }
+
+                    long size = fileService.deleteIfOrphaned(subDirectory, filename, acquiredBefore);
+                    if (size >= 0) {
+                        deleted++;
+                        freedBytes += size;
+                    }
+                } catch (IOException | UncheckedIOException | CustomException e) {
+                    // 순회 중 삭제/이동된 파일과 저장 키로 쓸 수 없는 파일명은 건너뜀
+                    log.debug("Skipping {} during orphan collection: {}", file, e.getMessage());
+                }
+            }
+        }
+
+        log.info("Orphan file collection: referenced={}, checked={}, deleted={}, freedBytes={}",
+                referenced.size(), visited, deleted, freedBytes);
+    }
+
+    private void addReferences(String text, Set<String> referenced) {
+        if (text == null) {
+            return;
+        }
+        Matcher matcher = FILE_URL.matcher(text);
+        while (matcher.find()) {
+            referenced.add(matcher.group(1) + "/" + matcher.group(2));
+        }
+    }
+}
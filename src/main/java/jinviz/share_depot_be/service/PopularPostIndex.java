@@ -0,0 +1,334 @@
+package jinviz.share_depot_be.service;
+
+import jinviz.share_depot_be.dto.PostDTOs;
+import jinviz.share_depot_be.event.PostActivityEvent;
+import jinviz.share_depot_be.event.UserWithdrawnEvent;
+import jinviz.share_depot_be.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * 인기 게시글 상위 K개 메모리 인덱스
+ * 시작 시(및 주기적으로) DB에서 조회수 상위 K개를 적재하고, 이후에는 조회/좋아요/댓글 이벤트로 갱신한다.
+ * 인덱스 범위 안의 인기 게시글 페이지는 DB 조회 없이 응답하고, 그 밖의 페이지는 호출자가 DB로 조회한다.
+ *
+ * 인덱스 밖의 게시글은 항상 인덱스의 마지막 게시글보다 조회수가 작거나 같다는 불변식을 유지한다.
+ * (모든 조회수 증가는 VIEWED 이벤트로 관찰되므로, 마지막 게시글을 넘어서는 순간 인덱스에 진입한다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularPostIndex {
+
+    // 조회수 내림차순, 같으면 게시글 ID 내림차순 (PostRepository 인기순 정렬과 동일)
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingLong(Entry::views).reversed()
+            .thenComparing(Comparator.comparingInt(Entry::postId).reversed());
+
+    @Value("${post.popular.capacity:200}")
+    private int capacity;
+
+    private final PostRepository postRepository;
+    private final ViewCountBuffer viewCountBuffer;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableSet<Entry> ranking = new TreeSet<>(RANKING);
+    private final Map<Integer, Entry> entries = new HashMap<>();
+
+    // 인덱스 적재 여부
+    private boolean loaded;
+    // 인덱스가 전체 게시글을 담고 있는지 여부 (게시글 수가 K개 미만이고 이후 새 글이 없을 때)
+    private boolean complete;
+    // 전체 게시글 수 (페이징 응답의 totalCount 용도)
+    private long totalPosts;
+    // 다음 재적재 전까지 인덱스에 다시 넣지 않을 탈퇴한 작성자 (재적재 쿼리는 탈퇴한 작성자의 글을 제외함)
+    private final Set<Integer> withdrawnAuthors = new HashSet<>();
+
+    /**
+     * DB에서 조회수 상위 K개를 다시 적재
+     * 이벤트로 갱신되는 동안 누적될 수 있는 오차(삭제로 줄어든 인덱스 등)를 주기적으로 바로잡는다.
+     */
+    @Scheduled(fixedDelayString = "${post.popular.reload-interval-ms:300000}")
+    public void reload() {
+        List<PostDTOs.PostSummaryResponse> summaries = postRepository.findPopularSummaries(PageRequest.of(0, capacity)).stream()
+                .map(PostDTOs.PostSummaryResponse::fromProjection)
+                .toList();
+        long count = postRepository.countVisible();
+
+        lock.writeLock().lock();
+        try {
+            ranking.clear();
+            entries.clear();
+            withdrawnAuthors.clear();
+            for (PostDTOs.PostSummaryResponse summary : summaries) {
+                // 아직 DB에 반영되지 않은 조회수 포함
+                long views = summary.getViews() + viewCountBuffer.getBufferedViews(summary.getId());
+                put(new Entry(summary.getId(), views, summary.toBuilder().views((int) views).build()));
+            }
+            loaded = true;
+            complete = summaries.size() < capacity;
+            totalPosts = count;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.debug("Reloaded popular post index with {} posts", summaries.size());
+    }
+
+    /**
+     * 인기 게시글 페이지 조회 (페이지 번호 기준)
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 인덱스로 응답 가능한 경우 게시글 요약 목록, 아니면 empty
+     */
+    public Optional<List<PostDTOs.PostSummaryResponse>> getPage(int page, int size) {
+        lock.readLock().lock();
+        try {
+            long from = (long) page * size;
+            if (!loaded || (from + size > ranking.size() && !complete)) {
+                return Optional.empty();
+            }
+            return Optional.of(ranking.stream()
+                    .skip(from)
+                    .limit(size)
+                    .map(Entry::summary)
+                    .toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인기 게시글 페이지 조회 ((views, postId) 커서 기준)
+     * @param views 마지막으로 조회한 게시글 조회수 (첫 페이지는 null)
+     * @param postId 마지막으로 조회한 게시글 ID (첫 페이지는 null)
+     * @param limit 조회 개수
+     * @return 인덱스로 응답 가능한 경우 게시글 요약 목록, 아니면 empty
+     */
+    public Optional<List<PostDTOs.PostSummaryResponse>> getAfter(Integer views, Integer postId, int limit) {
+        lock.readLock().lock();
+        try {
+            if (!loaded) {
+                return Optional.empty();
+            }
+            NavigableSet<Entry> tail = views == null
+                    ? ranking
+                    : ranking.tailSet(new Entry(postId, views, null), false);
+            if (tail.size() < limit && !complete) {
+                return Optional.empty();
+            }
+            List<PostDTOs.PostSummaryResponse> result = new ArrayList<>(limit);
+            for (Entry entry : tail) {
+                if (result.size() == limit) {
+                    break;
+                }
+                result.add(entry.summary());
+            }
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 게시글 수 조회
+     * @return 전체 게시글 수
+     */
+    public long getTotalPosts() {
+        lock.readLock().lock();
+        try {
+            return totalPosts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 활동 이벤트 반영 (트랜잭션 커밋 후)
+     * @param event 게시글 활동 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostActivity(PostActivityEvent event) {
+        try {
+            switch (event.getType()) {
+                case VIEWED -> onViewed(event.getSummary());
+                case LIKED -> adjust(event.getPostId(), summary -> summary.toBuilder().likes(summary.getLikes() + event.getDelta()).build());
+                case COMMENTED -> adjust(event.getPostId(), summary -> summary.toBuilder().comments(summary.getComments() + event.getDelta()).build());
+                case UPDATED -> onUpdated(event.getPostId());
+                case CREATED -> onCreated();
+                case DELETED -> onDeleted(event.getPostId());
+            }
+        } catch (RuntimeException e) {
+            // 인덱스 갱신 실패가 요청 결과에 영향을 주지 않도록 하고, 다음 재적재 때 바로잡는다
+            log.warn("Failed to apply {} event for post {} to popular index: {}", event.getType(), event.getPostId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 탈퇴한 사용자의 게시글 제거 (트랜잭션 커밋 후)
+     * 게시글 행은 정리 작업이 나중에 삭제하므로 전체 게시글 수는 그때의 DELETED 이벤트로 줄인다.
+     * @param event 회원 탈퇴 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserWithdrawn(UserWithdrawnEvent event) {
+        lock.writeLock().lock();
+        try {
+            withdrawnAuthors.add(event.getUserId());
+            ranking.removeIf(entry -> isWithdrawn(entry.summary()));
+            entries.values().removeIf(entry -> isWithdrawn(entry.summary()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isWithdrawn(PostDTOs.PostSummaryResponse summary) {
+        return summary.getAuthor() != null && withdrawnAuthors.contains(summary.getAuthor().getUserId());
+    }
+
+    private void onViewed(PostDTOs.PostSummaryResponse summary) {
+        Entry entry = new Entry(summary.getId(), summary.getViews(), summary);
+
+        // 대부분의 조회는 순위에 들지 않으므로 읽기 잠금으로 먼저 확인하고, 반영할 때만 쓰기 잠금을 잡는다
+        lock.readLock().lock();
+        try {
+            if (!changesRanking(entry)) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            // 잠금을 바꾸는 사이 다른 이벤트가 반영되었을 수 있으므로 다시 확인
+            if (!changesRanking(entry)) {
+                return;
+            }
+            Entry existing = entries.get(summary.getId());
+            if (existing != null) {
+                remove(existing);
+                put(entry);
+                return;
+            }
+
+            put(entry);
+            if (ranking.size() > capacity) {
+                Entry evicted = ranking.pollLast();
+                entries.remove(evicted.postId());
+                complete = false;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조회 이벤트가 인덱스를 바꾸는지 확인 (잠금을 잡은 상태에서 호출)
+     * @param entry 조회된 게시글 항목
+     * @return 반영 필요 여부
+     */
+    private boolean changesRanking(Entry entry) {
+        // 탈퇴 직전에 시작된 조회가 작성 글을 다시 넣지 않도록 함
+        if (isWithdrawn(entry.summary())) {
+            return false;
+        }
+        Entry existing = entries.get(entry.postId());
+        if (existing != null) {
+            // 동시 조회로 이벤트 순서가 뒤바뀌어도 조회수가 줄어들지 않도록 한다
+            return existing.views() <= entry.views();
+        }
+        // 마지막 게시글보다 앞서는 경우에만 진입 (인덱스가 전체를 담고 있으면 항상 진입)
+        return complete || (!ranking.isEmpty() && RANKING.compare(entry, ranking.last()) < 0);
+    }
+
+    private void onUpdated(Integer postId) {
+        lock.readLock().lock();
+        try {
+            if (!entries.containsKey(postId)) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 제목/썸네일 변경 반영 (인덱스에 있는 게시글만 다시 조회)
+        postRepository.findSummaryById(postId)
+                .map(PostDTOs.PostSummaryResponse::fromProjection)
+                .ifPresent(fresh -> adjust(postId, summary -> fresh.toBuilder()
+                        .views(Math.max(summary.getViews(), fresh.getViews()))
+                        .build()));
+    }
+
+    private void onCreated() {
+        lock.writeLock().lock();
+        try {
+            totalPosts++;
+            // 조회수 0인 새 게시글은 인덱스에 없으므로 인덱스 끝 너머는 DB로 조회해야 한다
+            complete = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void onDeleted(Integer postId) {
+        lock.writeLock().lock();
+        try {
+            totalPosts = Math.max(0, totalPosts - 1);
+            Entry existing = entries.get(postId);
+            if (existing != null) {
+                remove(existing);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void adjust(Integer postId, UnaryOperator<PostDTOs.PostSummaryResponse> change) {
+        lock.writeLock().lock();
+        try {
+            Entry existing = entries.get(postId);
+            if (existing == null) {
+                return;
+            }
+            PostDTOs.PostSummaryResponse summary = change.apply(existing.summary());
+            remove(existing);
+            put(new Entry(postId, summary.getViews(), summary));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(Entry entry) {
+        ranking.add(entry);
+        entries.put(entry.postId(), entry);
+    }
+
+    private void remove(Entry entry) {
+        ranking.remove(entry);
+        entries.remove(entry.postId());
+    }
+
+    /**
+     * 인덱스 항목 (불변, 변경 시 교체)
+     */
+    private record Entry(int postId, long views, PostDTOs.PostSummaryResponse summary) {
+    }
+}
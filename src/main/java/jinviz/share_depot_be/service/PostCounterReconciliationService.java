@@ -0,0 +1,61 @@
+package jinviz.share_depot_be.service;
+
+import jinviz.share_depot_be.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCounterReconciliationService {
+
+    // 한 번의 UPDATE로 보정할 게시글 ID 구간 크기
+    private static final int BATCH_SIZE = 1000;
+
+    // true: 서버 시작 시 한 번 보정 (카운터 컬럼을 처음 추가한 배포에서만 켜고, 이후에는 정기 보정에 맡긴다)
+    @Value("${post.counter.reconcile-on-startup:false}")
+    private boolean reconcileOnStartup;
+
+    private final PostRepository postRepository;
+
+    /**
+     * 서버 시작 시 카운터 보정
+     * ddl-auto로 추가된 카운터 컬럼은 기존 게시글이 0으로 채워지므로, 컬럼 추가 후 첫 배포에서 한 번만 켜서 바로 재계산한다.
+     * 전체 게시글을 다시 세므로 매 시작마다 실행하지 않는다.
+     * 카운터로 점수를 계산하는 트렌딩 초기 적재보다 먼저 실행한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void reconcileOnStartup() {
+        if (reconcileOnStartup) {
+            reconcileCounters();
+        }
+    }
+
+    /**
+     * 게시글 좋아요/댓글 수 보정
+     * 비정규화된 카운터가 LIKES, COMMENTS 테이블과 어긋난 경우를 대비해 주기적으로 재계산한다.
+     * 게시글 ID 구간별로 나누어 실행하여 한 트랜잭션이 오래 락을 잡지 않도록 한다.
+     */
+    @Scheduled(cron = "${post.counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcileCounters() {
+        Integer maxPostId = postRepository.findMaxPostId();
+        if (maxPostId == null) {
+            return;
+        }
+
+        int processed = 0;
+        for (int fromId = 1; fromId <= maxPostId; fromId += BATCH_SIZE) {
+            processed += postRepository.reconcileCounters(fromId, fromId + BATCH_SIZE - 1);
+        }
+
+        log.info("Reconciled like/comment counters for {} posts", processed);
+    }
+}
@@ -0,0 +1,155 @@
+package jinviz.share_depot_be.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jinviz.share_depot_be.dto.PostDTOs;
+import jinviz.share_depot_be.event.PostActivityEvent;
+import jinviz.share_depot_be.event.UserWithdrawnEvent;
+import jinviz.share_depot_be.exception.CustomException;
+import jinviz.share_depot_be.exception.ErrorCode;
+import jinviz.share_depot_be.repository.PostRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 상세 응답 캐시 (read-through)
+ * 작성자와 댓글 목록까지 조립한 상세 응답을 보관하고, 자주 바뀌는 조회수/좋아요 수는 캐시 항목 위에 덧씌워 응답한다.
+ * 게시글 수정/삭제와 댓글 변경 시에는 항목을 무효화하고, 좋아요는 항목의 좋아요 수만 조정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostDetailCache {
+
+    @Value("${post.detail-cache.max-size:1000}")
+    private long maxSize;
+
+    @Value("${post.detail-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final PostRepository postRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final CommentService commentService;
+    private final PlatformTransactionManager transactionManager;
+
+    private Cache<Integer, CachedDetail> cache;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    protected void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 게시글 상세 조회 (캐시에 없으면 DB에서 조립 후 적재)
+     * @param postId 게시글 ID
+     * @return 캐시 항목
+     */
+    public CachedDetail get(Integer postId) {
+        return cache.get(postId, this::load);
+    }
+
+    /**
+     * 게시글 활동 이벤트 반영 (트랜잭션 커밋 후)
+     * @param event 게시글 활동 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostActivity(PostActivityEvent event) {
+        switch (event.getType()) {
+            case UPDATED, DELETED, COMMENTED -> cache.invalidate(event.getPostId());
+            case LIKED -> {
+                CachedDetail detail = cache.getIfPresent(event.getPostId());
+                if (detail != null) {
+                    detail.likesDelta.addAndGet(event.getDelta());
+                }
+            }
+            default -> {
+                // 작성은 캐시 대상이 아니고, 조회수는 항목에서 직접 집계
+            }
+        }
+    }
+
+    /**
+     * 탈퇴한 사용자의 게시글 항목 무효화 (트랜잭션 커밋 후)
+     * 이후 조회는 DB에서 다시 적재하면서 없는 게시글로 처리된다.
+     * @param event 회원 탈퇴 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserWithdrawn(UserWithdrawnEvent event) {
+        cache.asMap().values().removeIf(detail -> detail.response.getAuthor() != null
+                && event.getUserId().equals(detail.response.getAuthor().getUserId()));
+    }
+
+    /**
+     * 캐시 적중률 기록
+     */
+    @Scheduled(fixedDelayString = "${post.detail-cache.stats-log-interval-ms:60000}")
+    public void logStats() {
+        CacheStats stats = cache.stats();
+        log.info("Post detail cache: size={}, hitRate={}, hits={}, misses={}, evictions={}",
+                cache.estimatedSize(), String.format("%.3f", stats.hitRate()),
+                stats.hitCount(), stats.missCount(), stats.evictionCount());
+    }
+
+    private CachedDetail load(Integer postId) {
+        PostDTOs.PostDetailResponse response = readOnlyTransaction.execute(status -> postRepository.findById(postId)
+                // 탈퇴한 사용자의 게시글은 정리 작업이 끝나기 전까지 없는 게시글로 취급
+                .filter(post -> post.getUser().getDeletedAt() == null)
+                .map(post -> PostDTOs.PostDetailResponse.fromEntity(post, commentService.getCommentPreview(postId)))
+                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND)));
+
+        // 아직 DB에 반영되지 않은 조회수까지 기준값에 포함
+        long baseViews = response.getViews() + viewCountBuffer.getBufferedViews(postId);
+        return new CachedDetail(response, baseViews);
+    }
+
+    /**
+     * 캐시 항목
+     * 조립된 상세 응답은 공유되므로 변경하지 않고, 응답할 때마다 조회수/좋아요 수를 덮어쓴 복사본을 만든다.
+     */
+    public static class CachedDetail {
+
+        private final PostDTOs.PostDetailResponse response;
+        // 적재 시점의 조회수 (DB + 버퍼)
+        private final long baseViews;
+        // 적재 이후 이 항목으로 응답한 조회 수
+        private final LongAdder servedViews = new LongAdder();
+        // 적재 이후 좋아요 수 증감
+        private final AtomicInteger likesDelta = new AtomicInteger();
+
+        private CachedDetail(PostDTOs.PostDetailResponse response, long baseViews) {
+            this.response = response;
+            this.baseViews = baseViews;
+        }
+
+        /**
+         * 조회 1회를 기록하고 현재 조회수/좋아요 수를 반영한 응답 생성
+         * @return 게시글 상세 응답 DTO
+         */
+        public PostDTOs.PostDetailResponse recordView() {
+            servedViews.increment();
+            return response.toBuilder()
+                    .views((int) (baseViews + servedViews.sum()))
+                    .likes(response.getLikes() + likesDelta.get())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package jinviz.share_depot_be.service;
+
+import jinviz.share_depot_be.event.PostActivityEvent;
+import jinviz.share_depot_be.repository.PostRepository;
+import jinviz.share_depot_be.repository.PostTextProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 전문 검색용 메모리 역색인
+ * 제목과 본문을 문자 바이그램(2-gram)으로 나누어 색인한다. 형태소 분석 없이도 한국어 부분 문자열 검색이 되고,
+ * 검색어의 모든 바이그램을 포함하는 게시글만 찾은 뒤 BM25로 순위를 매긴다.
+ * 한 글자 검색어도 단어 중간에서 찾을 수 있도록 글자 단위(유니그램)도 함께 색인한다.
+ * 시작 시 POSTS 전체를 게시글 ID 순으로 나누어 적재하고, 이후에는 작성/수정/삭제 이벤트로 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // 제목에 등장한 단어는 본문보다 높은 빈도로 계산
+    private static final int TITLE_BOOST = 3;
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final Comparator<Hit> RANKING = Comparator
+            .comparingDouble(Hit::score).reversed()
+            .thenComparing(Comparator.comparingInt(Hit::postId).reversed());
+
+    @Value("${post.search.build-batch-size:500}")
+    private int buildBatchSize;
+
+    private final PostRepository postRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 바이그램/유니그램 -> (게시글 ID -> 빈도)
+    private final Map<String, Map<Integer, Integer>> postings = new HashMap<>();
+    // 게시글 ID -> 색인된 문서 (갱신/삭제 시 기존 바이그램 제거용)
+    private final Map<Integer, Document> documents = new HashMap<>();
+    private long totalLength;
+
+    // 초기 적재 완료 여부
+    private volatile boolean ready;
+    // 초기 적재 중 삭제된 게시글 (적재 배치가 오래된 본문으로 다시 추가하지 않도록)
+    private final Set<Integer> deletedDuringBuild = new HashSet<>();
+
+    /**
+     * POSTS 전체를 게시글 ID 순으로 나누어 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        int afterId = 0;
+        int indexed = 0;
+        while (true) {
+            List<PostTextProjection> batch = postRepository.findTextsAfter(afterId, PageRequest.of(0, buildBatchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (PostTextProjection post : batch) {
+                    // 적재 중 이벤트로 이미 최신 내용이 반영된 게시글은 건너뜀
+                    if (!documents.containsKey(post.getPostId()) && !deletedDuringBuild.contains(post.getPostId())) {
+                        put(post);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            indexed += batch.size();
+            afterId = batch.get(batch.size() - 1).getPostId();
+        }
+
+        lock.writeLock().lock();
+        try {
+            deletedDuringBuild.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Built search index for {} posts ({} terms)", indexed, postings.size());
+    }
+
+    /**
+     * 게시글 검색
+     * @param keyword 검색어
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 색인이 준비된 경우 검색 결과, 아니면 empty
+     */
+    public Optional<SearchResult> search(String keyword, int page, int size) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(keyword));
+
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return Optional.empty();
+            }
+            if (terms.isEmpty()) {
+                return Optional.of(new SearchResult(List.of(), 0));
+            }
+
+            // 검색어의 모든 바이그램을 포함하는 게시글만 후보 (가장 짧은 목록부터 교집합)
+            List<Map<Integer, Integer>> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Integer, Integer> list = postings.get(term);
+                if (list == null) {
+                    return Optional.of(new SearchResult(List.of(), 0));
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            double averageLength = (double) totalLength / documents.size();
+            List<Hit> hits = new ArrayList<>();
+            for (Integer postId : lists.get(0).keySet()) {
+                double score = 0;
+                int length = documents.get(postId).length();
+                for (Map<Integer, Integer> list : lists) {
+                    Integer frequency = list.get(postId);
+                    if (frequency == null) {
+                        score = -1;
+                        break;
+                    }
+                    score += bm25(frequency, length, averageLength, list.size());
+                }
+                if (score >= 0) {
+                    hits.add(new Hit(postId, score));
+                }
+            }
+
+            List<Integer> postIds = hits.stream()
+                    .sorted(RANKING)
+                    .skip((long) page * size)
+                    .limit(size)
+                    .map(Hit::postId)
+                    .toList();
+            return Optional.of(new SearchResult(postIds, hits.size()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 작성/수정/삭제 이벤트 반영 (트랜잭션 커밋 후)
+     * @param event 게시글 활동 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostActivity(PostActivityEvent event) {
+        try {
+            switch (event.getType()) {
+                case CREATED, UPDATED -> postRepository.findTextById(event.getPostId()).ifPresent(this::index);
+                case DELETED -> delete(event.getPostId());
+                default -> {
+                    // 조회/좋아요/댓글은 색인 대상이 아님
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply {} event for post {} to search index: {}", event.getType(), event.getPostId(), e.getMessage());
+        }
+    }
+
+    private void index(PostTextProjection post) {
+        lock.writeLock().lock();
+        try {
+            remove(post.getPostId());
+            put(post);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void delete(Integer postId) {
+        lock.writeLock().lock();
+        try {
+            remove(postId);
+            if (!ready) {
+                deletedDuringBuild.add(postId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(PostTextProjection post) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : indexTerms(post.getTitle())) {
+            frequencies.merge(term, TITLE_BOOST, Integer::sum);
+        }
+        for (String term : indexTerms(post.getContent())) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(post.getPostId(), frequency));
+        documents.put(post.getPostId(), new Document(frequencies.keySet(), length));
+        totalLength += length;
+    }
+
+    private void remove(Integer postId) {
+        Document document = documents.remove(postId);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms()) {
+            Map<Integer, Integer> list = postings.get(term);
+            list.remove(postId);
+            if (list.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= document.length();
+    }
+
+    private double bm25(int frequency, int length, double averageLength, int documentFrequency) {
+        double idf = Math.log(1 + (documents.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        return idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+    }
+
+    /**
+     * 문자열을 바이그램으로 분리
+     * 공백/기호 기준으로 단어를 나눈 뒤 단어마다 연속한 두 글자씩 잘라낸다. (한 글자 단어는 그대로 사용)
+     * @param text 원문
+     * @return 바이그램 목록 (중복 포함)
+     */
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        for (String word : WORD_SEPARATOR.split(normalized)) {
+            int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 1) {
+                terms.add(word);
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                terms.add(new String(codePoints, i, 2));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 색인할 단어 분리 (바이그램 + 여러 글자 단어의 각 글자)
+     * 검색어는 한 글자 단어만 유니그램으로 바뀌므로, 문서 쪽에는 모든 글자를 유니그램으로도 넣어 둔다.
+     * @param text 원문
+     * @return 색인 단어 목록 (중복 포함)
+     */
+    static List<String> indexTerms(String text) {
+        List<String> terms = tokenize(text);
+        if (text == null) {
+            return terms;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        for (String word : WORD_SEPARATOR.split(normalized)) {
+            int[] codePoints = word.codePoints().toArray();
+            // 한 글자 단어는 tokenize에서 이미 추가됨
+            if (codePoints.length > 1) {
+                for (int codePoint : codePoints) {
+                    terms.add(Character.toString(codePoint));
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 색인된 문서 정보
+     * @param terms 문서에 포함된 바이그램/유니그램
+     * @param length 가중 빈도 합 (BM25 문서 길이)
+     */
+    private record Document(Set<String> terms, int length) {
+    }
+
+    private record Hit(int postId, double score) {
+    }
+
+    /**
+     * 검색 결과
+     * @param postIds 순위순 게시글 ID 목록 (요청 페이지)
+     * @param totalCount 전체 검색 결과 수
+     */
+    public record SearchResult(List<Integer> postIds, long totalCount) {
+    }
+}
@@ -3,19 +3,30 @@ package jinviz.share_depot_be.service;
 import jinviz.share_depot_be.dto.PostDTOs;
 import jinviz.share_depot_be.entity.Post;
 import jinviz.share_depot_be.entity.User;
+import jinviz.share_depot_be.event.PostActivityEvent;
 import jinviz.share_depot_be.exception.CustomException;
 import jinviz.share_depot_be.exception.ErrorCode;
 import jinviz.share_depot_be.repository.CommentRepository;
 import jinviz.share_depot_be.repository.LikeRepository;
 import jinviz.share_depot_be.repository.PostRepository;
+import jinviz.share_depot_be.repository.PostSummaryProjection;
 import jinviz.share_depot_be.repository.UserRepository;
+import jinviz.share_depot_be.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,6 +37,13 @@ public class PostService {
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
     private final LikeRepository likeRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PopularPostIndex popularPostIndex;
+    private final TrendingPostIndex trendingPostIndex;
+    private final PostSearchIndex postSearchIndex;
+    private final PostDetailCache postDetailCache;
+    private final CommentService commentService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시글 목록 조회 (페이징)
@@ -34,10 +52,10 @@ public class PostService {
      */
     @Transactional(readOnly = true)
     public PostDTOs.PostListResponse getPosts(Pageable pageable) {
-        Page<Post> postsPage = postRepository.findAllByOrderByCreatedAtDesc(pageable);
+        Page<PostSummaryProjection> postsPage = postRepository.findSummaryPage(pageable);
 
         List<PostDTOs.PostSummaryResponse> postSummaries = postsPage.getContent().stream()
-                .map(PostDTOs.PostSummaryResponse::fromEntity)
+                .map(PostDTOs.PostSummaryResponse::fromProjection)
                 .collect(Collectors.toList());
 
         return PostDTOs.PostListResponse.builder()
@@ -50,15 +68,27 @@ public class PostService {
 
     /**
      * 인기 게시글 목록 조회 (조회수 기준)
+     * 상위 K개 인덱스 범위 안의 페이지는 DB 조회 없이 응답한다.
      * @param pageable 페이징 정보
      * @return 게시글 목록 응답 DTO
      */
-    @Transactional(readOnly = true)
     public PostDTOs.PostListResponse getPopularPosts(Pageable pageable) {
-        Page<Post> postsPage = postRepository.findAllByOrderByViewsDesc(pageable);
+        Optional<List<PostDTOs.PostSummaryResponse>> indexed =
+                popularPostIndex.getPage(pageable.getPageNumber(), pageable.getPageSize());
+        if (indexed.isPresent()) {
+            long totalCount = popularPostIndex.getTotalPosts();
+            return PostDTOs.PostListResponse.builder()
+                    .posts(indexed.get())
+                    .totalCount((int) totalCount)
+                    .totalPages((int) ((totalCount + pageable.getPageSize() - 1) / pageable.getPageSize()))
+                    .currentPage(pageable.getPageNumber() + 1)
+                    .build();
+        }
+
+        Page<PostSummaryProjection> postsPage = postRepository.findPopularSummaryPage(pageable);
 
         List<PostDTOs.PostSummaryResponse> postSummaries = postsPage.getContent().stream()
-                .map(PostDTOs.PostSummaryResponse::fromEntity)
+                .map(PostDTOs.PostSummaryResponse::fromProjection)
                 .collect(Collectors.toList());
 
         return PostDTOs.PostListResponse.builder()
@@ -69,36 +99,185 @@ public class PostService {
                 .build();
     }
 
+    /**
+     * 게시글 목록 커서 조회 (최신순)
+     * OFFSET 대신 (createdAt, postId) 키셋으로 탐색하고 COUNT 쿼리를 생략한다.
+     * @param after 이전 응답의 nextCursor (첫 페이지는 빈 값)
+     * @param size 페이지 크기
+     * @return 게시글 커서 응답 DTO
+     */
+    @Transactional(readOnly = true)
+    public PostDTOs.PostCursorResponse getPostsByCursor(String after, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<PostSummaryProjection> posts;
+        if (StringUtils.hasText(after)) {
+            String[] parts = CursorCodec.decode(after, 2);
+            LocalDateTime createdAt = CursorCodec.parse(parts[0], LocalDateTime::parse);
+            Integer postId = CursorCodec.parse(parts[1], Integer::valueOf);
+            posts = postRepository.findLatestSummariesAfter(createdAt, postId, limit);
+        } else {
+            posts = postRepository.findLatestSummaries(limit);
+        }
+
+        return toCursorResponse(posts, size, PostDTOs.PostSummaryResponse::fromProjection,
+                post -> CursorCodec.encode(post.getCreatedAt(), post.getPostId()));
+    }
+
+    /**
+     * 인기 게시글 목록 커서 조회 (조회수 기준)
+     * OFFSET 대신 (views, postId) 키셋으로 탐색하고 COUNT 쿼리를 생략한다.
+     * @param after 이전 응답의 nextCursor (첫 페이지는 빈 값)
+     * @param size 페이지 크기
+     * @return 게시글 커서 응답 DTO
+     */
+    public PostDTOs.PostCursorResponse getPopularPostsByCursor(String after, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        Integer views = null;
+        Integer postId = null;
+        if (StringUtils.hasText(after)) {
+            String[] parts = CursorCodec.decode(after, 2);
+            views = CursorCodec.parse(parts[0], Integer::valueOf);
+            postId = CursorCodec.parse(parts[1], Integer::valueOf);
+        }
+
+        // 상위 K개 인덱스 범위 안이면 DB 조회 없이 응답
+        Optional<List<PostDTOs.PostSummaryResponse>> indexed = popularPostIndex.getAfter(views, postId, size + 1);
+        if (indexed.isPresent()) {
+            return toCursorResponse(indexed.get(), size, Function.identity(),
+                    post -> CursorCodec.encode(post.getViews(), post.getId()));
+        }
+
+        List<PostSummaryProjection> posts = views == null
+                ? postRepository.findPopularSummaries(limit)
+                : postRepository.findPopularSummariesAfter(views, postId, limit);
+
+        return toCursorResponse(posts, size, PostDTOs.PostSummaryResponse::fromProjection,
+                post -> CursorCodec.encode(post.getViews(), post.getPostId()));
+    }
+
+    /**
+     * 트렌딩 게시글 목록 커서 조회
+     * 시간 감쇠 점수 순위는 메모리 인덱스에서 구하고, 게시글 정보는 ID 목록으로 한 번에 조회한다.
+     * @param after 이전 응답의 nextCursor (첫 페이지는 빈 값)
+     * @param size 페이지 크기
+     * @return 게시글 커서 응답 DTO
+     */
+    public PostDTOs.PostCursorResponse getTrendingPosts(String after, int size) {
+        Long epochMillis = null;
+        Double score = null;
+        Integer postId = null;
+        if (StringUtils.hasText(after)) {
+            String[] parts = CursorCodec.decode(after, 3);
+            epochMillis = CursorCodec.parse(parts[0], Long::valueOf);
+            score = CursorCodec.parse(parts[1], Double::valueOf);
+            postId = CursorCodec.parse(parts[2], Integer::valueOf);
+        }
+
+        TrendingPostIndex.Slice slice = trendingPostIndex.getAfter(epochMillis, score, postId, size + 1);
+        if (slice.posts().isEmpty()) {
+            return toCursorResponse(List.<TrendingPostIndex.Ranked>of(), size, ranked -> null, ranked -> null);
+        }
+
+        // 다음 페이지 여부와 커서는 걸러내기 전의 순위 목록으로 계산 (삭제된 게시글 때문에 목록이 일찍 끝나지 않도록)
+        boolean hasNext = slice.posts().size() > size;
+        List<TrendingPostIndex.Ranked> page = hasNext ? slice.posts().subList(0, size) : slice.posts();
+        TrendingPostIndex.Ranked last = page.get(page.size() - 1);
+
+        Map<Integer, PostDTOs.PostSummaryResponse> summaries = postRepository.findSummariesByPostIdIn(
+                        page.stream().map(TrendingPostIndex.Ranked::postId).toList()).stream()
+                .collect(Collectors.toMap(PostSummaryProjection::getPostId, PostDTOs.PostSummaryResponse::fromProjection));
+
+        // 순위 인덱스에는 있지만 이미 삭제된 게시글은 제외
+        return PostDTOs.PostCursorResponse.builder()
+                .posts(page.stream()
+                        .map(post -> summaries.get(post.postId()))
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList()))
+                .nextCursor(hasNext ? CursorCodec.encode(slice.epochMillis(), last.score(), last.postId()) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 게시글 검색 (제목 + 내용)
+     * 바이그램 역색인에서 관련도 순으로 게시글 ID를 구하고, 게시글 정보는 ID 목록으로 한 번에 조회한다.
+     * 색인이 아직 준비되지 않았으면 DB LIKE 검색(최신순)으로 대체한다.
+     * @param keyword 검색 키워드
+     * @param pageable 페이징 정보
+     * @return 게시글 목록 응답 DTO
+     */
+    public PostDTOs.PostListResponse searchPosts(String keyword, Pageable pageable) {
+        if (!StringUtils.hasText(keyword)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Optional<PostSearchIndex.SearchResult> indexed =
+                postSearchIndex.search(keyword, pageable.getPageNumber(), pageable.getPageSize());
+        if (indexed.isEmpty()) {
+            Page<PostSummaryProjection> postsPage = postRepository.searchSummaryPage(keyword.trim(), pageable);
+            return PostDTOs.PostListResponse.builder()
+                    .posts(postsPage.getContent().stream()
+                            .map(PostDTOs.PostSummaryResponse::fromProjection)
+                            .collect(Collectors.toList()))
+                    .totalCount((int) postsPage.getTotalElements())
+                    .totalPages(postsPage.getTotalPages())
+                    .currentPage(pageable.getPageNumber() + 1)
+                    .build();
+        }
+
+        PostSearchIndex.SearchResult result = indexed.get();
+        List<PostDTOs.PostSummaryResponse> postSummaries = List.of();
+        if (!result.postIds().isEmpty()) {
+            Map<Integer, PostDTOs.PostSummaryResponse> summaries = postRepository.findSummariesByPostIdIn(result.postIds()).stream()
+                    .collect(Collectors.toMap(PostSummaryProjection::getPostId, PostDTOs.PostSummaryResponse::fromProjection));
+            // 관련도 순서 유지
+            postSummaries = result.postIds().stream()
+                    .map(summaries::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+
+        return PostDTOs.PostListResponse.builder()
+                .posts(postSummaries)
+                .totalCount((int) result.totalCount())
+                .totalPages((int) Math.ceil((double) result.totalCount() / pageable.getPageSize()))
+                .currentPage(pageable.getPageNumber() + 1)
+                .build();
+    }
+
     /**
      * 게시글 상세 조회
+     * 조립된 상세 응답은 캐시에서 가져오고, 조회수/좋아요 수만 최신 값으로 덮어쓴다.
      * @param postId 게시글 ID
      * @return 게시글 상세 응답 DTO
      */
-    @Transactional
     public PostDTOs.PostDetailResponse getPostDetail(Integer postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
+        PostDetailCache.CachedDetail detail = postDetailCache.get(postId);
 
-        // 조회수 증가
-        postRepository.incrementViews(postId);
-        post.setViews(post.getViews() + 1);
+        // 조회수 증가 (버퍼에 누적 후 주기적으로 일괄 반영)
+        viewCountBuffer.increment(postId);
+        PostDTOs.PostDetailResponse response = detail.recordView();
 
-        return PostDTOs.PostDetailResponse.fromEntity(post);
+        eventPublisher.publishEvent(PostActivityEvent.viewed(PostDTOs.PostSummaryResponse.fromDetail(response)));
+        return response;
     }
 
     /**
      * 게시글 작성
-     * @param email 현재 로그인한 사용자 이메일
+     * @param userId 현재 로그인한 사용자 ID
      * @param request 게시글 생성 요청 DTO
      * @return 생성된 게시글 ID
      */
     @Transactional
-    public Integer createPost(String email, PostDTOs.PostCreateRequest request) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    public Integer createPost(Integer userId, PostDTOs.PostCreateRequest request) {
+        // 외래 키 설정에는 ID만 필요하므로 조회 없이 프록시 사용
+        User user = userRepository.getReferenceById(userId);
 
         Post post = request.toEntity(user);
         Post savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(PostActivityEvent.created(savedPost.getPostId()));
 
         return savedPost.getPostId();
     }
@@ -106,20 +285,17 @@ public class PostService {
     /**
      * 게시글 수정
      * @param postId 게시글 ID
-     * @param email 현재 로그인한 사용자 이메일
+     * @param userId 현재 로그인한 사용자 ID
      * @param request 게시글 수정 요청 DTO
      * @return 수정된 게시글 상세 응답 DTO
      */
     @Transactional
-    public PostDTOs.PostDetailResponse updatePost(Integer postId, String email, PostDTOs.PostUpdateRequest request) {
+    public PostDTOs.PostDetailResponse updatePost(Integer postId, Integer userId, PostDTOs.PostUpdateRequest request) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
         // 작성자 확인
-        if (!post.getUser().getUserId().equals(user.getUserId())) {
+        if (!post.getUser().getUserId().equals(userId)) {
             throw new CustomException(ErrorCode.UNAUTHORIZED_ACTION);
         }
 
@@ -131,32 +307,58 @@ public class PostService {
         }
 
         Post updatedPost = postRepository.save(post);
-        return PostDTOs.PostDetailResponse.fromEntity(updatedPost);
+        eventPublisher.publishEvent(PostActivityEvent.updated(postId));
+        return PostDTOs.PostDetailResponse.fromEntity(updatedPost, commentService.getCommentPreview(postId));
     }
 
     /**
      * 게시글 삭제
      * @param postId 게시글 ID
-     * @param email 현재 로그인한 사용자 이메일
+     * @param userId 현재 로그인한 사용자 ID
      */
     @Transactional
-    public void deletePost(Integer postId, String email) {
+    public void deletePost(Integer postId, Integer userId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
         // 작성자 확인
-        if (!post.getUser().getUserId().equals(user.getUserId())) {
+        if (!post.getUser().getUserId().equals(userId)) {
             throw new CustomException(ErrorCode.UNAUTHORIZED_ACTION);
         }
 
-        // 관련 데이터 삭제
+        // 관련 데이터 일괄 삭제 (행마다 엔티티를 로드하지 않도록 DELETE 문으로 처리)
         likeRepository.deleteByPostPostId(postId);
         commentRepository.deleteByPostPostId(postId);
 
         // 게시글 삭제
-        postRepository.delete(post);
+        postRepository.deleteByPostId(postId);
+        eventPublisher.publishEvent(PostActivityEvent.deleted(postId));
+    }
+
+    /**
+     * 커서 응답 DTO 생성
+     * 페이지 크기보다 하나 더 조회한 결과로 다음 페이지 존재 여부를 판단한다.
+     * @param posts 조회된 게시글 목록 (최대 size + 1개)
+     * @param size 페이지 크기
+     * @param toSummary 게시글 요약 DTO 변환 함수
+     * @param cursorOf 게시글로부터 커서를 만드는 함수
+     * @return 게시글 커서 응답 DTO
+     * @param <T> 조회 결과 타입
+     */
+    private <T> PostDTOs.PostCursorResponse toCursorResponse(List<T> posts, int size,
+                                                             Function<T, PostDTOs.PostSummaryResponse> toSummary,
+                                                             Function<T, String> cursorOf) {
+        boolean hasNext = posts.size() > size;
+        List<T> page = hasNext ? posts.subList(0, size) : posts;
+
+        List<PostDTOs.PostSummaryResponse> postSummaries = page.stream()
+                .map(toSummary)
+                .collect(Collectors.toList());
+
+        return PostDTOs.PostCursorResponse.builder()
+                .posts(postSummaries)
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,243 @@
+package jinviz.share_depot_be.service;
+
+import jinviz.share_depot_be.event.PostActivityEvent;
+import jinviz.share_depot_be.repository.PostRepository;
+import jinviz.share_depot_be.repository.PostSummaryProjection;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 시간 감쇠 기반 트렌딩 게시글 랭킹
+ * 조회/좋아요/댓글 이벤트마다 가중치 * e^(λ·(t - t0)) 만큼 점수를 더한다.
+ * 모든 점수가 같은 비율로 감쇠하므로 기준 시각 t0에 대한 상대 점수만 저장해도 순위는 항상
+ * "가중치 * e^(-λ·경과시간)"의 합으로 계산한 순위와 같고, 이벤트마다 O(log N)으로 갱신된다.
+ * 지수가 커지면 모든 점수를 다시 t0 = 현재 시각 기준으로 환산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingPostIndex {
+
+    // 점수 내림차순, 같으면 게시글 ID 내림차순
+    private static final Comparator<Ranked> RANKING = Comparator
+            .comparingDouble(Ranked::score).reversed()
+            .thenComparing(Comparator.comparingInt(Ranked::postId).reversed());
+
+    private static final double MILLIS_PER_HOUR = 3_600_000.0;
+
+    // 이 값을 넘는 지수가 필요해지면 기준 시각을 옮겨 점수를 다시 환산
+    private static final double MAX_EXPONENT = 30.0;
+
+    @Value("${post.trending.half-life-hours:24}")
+    private double halfLifeHours;
+
+    @Value("${post.trending.capacity:10000}")
+    private int capacity;
+
+    @Value("${post.trending.seed-days:7}")
+    private int seedDays;
+
+    @Value("${post.trending.weight.view:1}")
+    private double viewWeight;
+
+    @Value("${post.trending.weight.like:5}")
+    private double likeWeight;
+
+    @Value("${post.trending.weight.comment:3}")
+    private double commentWeight;
+
+    @Value("${post.trending.weight.post:10}")
+    private double postWeight;
+
+    private final PostRepository postRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableSet<Ranked> ranking = new TreeSet<>(RANKING);
+    private final Map<Integer, Double> scores = new HashMap<>();
+
+    // 시간당 감쇠율 λ = ln2 / 반감기
+    private double decayPerHour;
+    // 점수 기준 시각 t0
+    private long epochMillis;
+
+    @PostConstruct
+    protected void init() {
+        this.decayPerHour = Math.log(2) / halfLifeHours;
+        this.epochMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * 최근 게시글로 초기 점수 적재
+     * 누적된 조회/좋아요/댓글 수를 게시글 작성 시각에 발생한 것으로 보고 점수를 계산한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        LocalDateTime since = LocalDateTime.now().minusDays(seedDays);
+        List<PostSummaryProjection> posts = postRepository.findLatestSummariesSince(since, PageRequest.of(0, capacity));
+
+        lock.writeLock().lock();
+        try {
+            for (PostSummaryProjection post : posts) {
+                double weight = postWeight
+                        + viewWeight * post.getViews()
+                        + likeWeight * post.getLikeCount()
+                        + commentWeight * post.getCommentCount();
+                long createdAt = post.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                add(post.getPostId(), weight, createdAt);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Seeded trending index with {} posts from the last {} days", posts.size(), seedDays);
+    }
+
+    /**
+     * 트렌딩 게시글 조회 ((epoch, score, postId) 커서 기준)
+     * @param cursorEpochMillis 커서를 발급할 때의 기준 시각 (첫 페이지는 null)
+     * @param cursorScore 마지막으로 조회한 게시글 점수 (첫 페이지는 null)
+     * @param cursorPostId 마지막으로 조회한 게시글 ID (첫 페이지는 null)
+     * @param limit 조회 개수
+     * @return 순위 목록과 현재 기준 시각
+     */
+    public Slice getAfter(Long cursorEpochMillis, Double cursorScore, Integer cursorPostId, int limit) {
+        lock.readLock().lock();
+        try {
+            NavigableSet<Ranked> tail = ranking;
+            if (cursorScore != null) {
+                // 커서 발급 후 기준 시각이 바뀌었으면 현재 기준으로 환산
+                double score = cursorScore * Math.exp(-decayPerHour * (epochMillis - cursorEpochMillis) / MILLIS_PER_HOUR);
+                tail = ranking.tailSet(new Ranked(cursorPostId, score), false);
+            }
+
+            List<Ranked> posts = new ArrayList<>(limit);
+            for (Ranked ranked : tail) {
+                if (posts.size() == limit) {
+                    break;
+                }
+                posts.add(ranked);
+            }
+            return new Slice(posts, epochMillis);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 활동 이벤트 반영 (트랜잭션 커밋 후)
+     * @param event 게시글 활동 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostActivity(PostActivityEvent event) {
+        long now = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            switch (event.getType()) {
+                case CREATED -> add(event.getPostId(), postWeight, now);
+                case VIEWED -> add(event.getPostId(), viewWeight, now);
+                case LIKED -> add(event.getPostId(), likeWeight * event.getDelta(), now);
+                case COMMENTED -> add(event.getPostId(), commentWeight * event.getDelta(), now);
+                case DELETED -> remove(event.getPostId());
+                case UPDATED -> {
+                    // 내용 수정은 점수에 영향 없음
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 점수 가산 (쓰기 락을 잡은 상태에서 호출)
+     * @param postId 게시글 ID
+     * @param weight 가중치 (좋아요 취소 등은 음수)
+     * @param timeMillis 이벤트 발생 시각
+     */
+    private void add(Integer postId, double weight, long timeMillis) {
+        rescaleIfNeeded(timeMillis);
+
+        Double current = scores.get(postId);
+        if (current == null && weight <= 0) {
+            return;
+        }
+        if (current != null) {
+            ranking.remove(new Ranked(postId, current));
+        }
+
+        double boost = weight * Math.exp(decayPerHour * (timeMillis - epochMillis) / MILLIS_PER_HOUR);
+        double score = Math.max(0, (current == null ? 0 : current) + boost);
+        ranking.add(new Ranked(postId, score));
+        scores.put(postId, score);
+
+        // 추적 개수를 넘으면 점수가 가장 낮은 게시글 제거
+        if (ranking.size() > capacity) {
+            Ranked evicted = ranking.pollLast();
+            scores.remove(evicted.postId());
+        }
+    }
+
+    private void remove(Integer postId) {
+        Double current = scores.remove(postId);
+        if (current != null) {
+            ranking.remove(new Ranked(postId, current));
+        }
+    }
+
+    /**
+     * 지수가 너무 커지기 전에 모든 점수를 새 기준 시각으로 환산 (순위는 변하지 않음)
+     * @param nowMillis 현재 시각
+     */
+    private void rescaleIfNeeded(long nowMillis) {
+        double exponent = decayPerHour * (nowMillis - epochMillis) / MILLIS_PER_HOUR;
+        if (exponent <= MAX_EXPONENT) {
+            return;
+        }
+
+        double factor = Math.exp(-exponent);
+        List<Ranked> rescaled = ranking.stream()
+                .map(ranked -> new Ranked(ranked.postId(), ranked.score() * factor))
+                .toList();
+        ranking.clear();
+        scores.clear();
+        for (Ranked ranked : rescaled) {
+            ranking.add(ranked);
+            scores.put(ranked.postId(), ranked.score());
+        }
+        epochMillis = nowMillis;
+    }
+
+    /**
+     * 게시글 순위 항목
+     * @param postId 게시글 ID
+     * @param score 기준 시각 t0에 대한 상대 점수
+     */
+    public record Ranked(int postId, double score) {
+    }
+
+    /**
+     * 트렌딩 조회 결과
+     * @param posts 순위 목록
+     * @param epochMillis 점수 기준 시각 (다음 커서에 포함)
+     */
+    public record Slice(List<Ranked> posts, long epochMillis) {
+    }
+}
@@ -0,0 +1,351 @@
+package jinviz.share_depot_be.service;
+
+import jinviz.share_depot_be.dto.FileDTO;
+import jinviz.share_depot_be.dto.UploadDTOs;
+import jinviz.share_depot_be.entity.UploadSession;
+import jinviz.share_depot_be.exception.CustomException;
+import jinviz.share_depot_be.exception.ErrorCode;
+import jinviz.share_depot_be.repository.UploadSessionRepository;
+import jinviz.share_depot_be.repository.UploadUsageProjection;
+import jinviz.share_depot_be.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 분할(재개 가능) 업로드 서비스
+ * 세션 생성 시 업로드 임시 디렉토리에 전체 크기의 .part 파일을 미리 만들고, 청크는 번호에 해당하는 위치에 바로 기록한다.
+ * 연결이 끊겨도 받은 구간을 조회해 빠진 청크만 다시 보내면 되고, 완료 시 .part 파일을 저장소로 넘긴다. (로컬 저장소는 복사 없는 rename)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadSessionService {
+
+    private static final Set<String> SUB_DIRECTORIES = Set.of("posts", "profiles");
+
+    public static final String PART_SUFFIX = ".part";
+
+    // 비트셋 컬럼 크기(1024바이트)로 표현할 수 있는 최대 청크 수
+    private static final int MAX_CHUNK_COUNT = 1024 * 8;
+
+    // 이 시간이 지나도록 끝나지 않은 완료 처리는 중단된 것으로 보고 다시 완료할 수 있게 함
+    private static final Duration COMPLETE_TIMEOUT = Duration.ofMinutes(10);
+
+    @Value("${file.upload.session.chunk-size:1MB}")
+    private DataSize chunkSize;
+
+    @Value("${file.upload.session.max-size:100MB}")
+    private DataSize maxSize;
+
+    @Value("${file.upload.session.ttl-hours:24}")
+    private long ttlHours;
+
+    // 사용자별 진행 중인 세션 수와 전체 크기 합계 상한
+    @Value("${file.upload.session.max-active-per-user:5}")
+    private int maxActivePerUser;
+
+    @Value("${file.upload.session.max-bytes-per-user:200MB}")
+    private DataSize maxBytesPerUser;
+
+    @Value("${file.upload.session.cleanup-batch-size:100}")
+    private int cleanupBatchSize;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UserRepository userRepository;
+    private final FileService fileService;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    @PostConstruct
+    protected void init() {
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 업로드 세션 생성
+     * 디스크에 전체 크기만큼 미리 할당하므로 사용자별 진행 중인 세션 수와 전체 크기를 제한한다.
+     * 한도 확인부터 저장까지 사용자 행을 잠근 채 진행하여 동시 요청도 한도를 넘지 않는다.
+     * @param userId 사용자 ID
+     * @param request 세션 생성 요청 DTO
+     * @return 업로드 세션 응답 DTO
+     */
+    @Transactional
+    public UploadDTOs.UploadSessionResponse createSession(Integer userId, UploadDTOs.UploadSessionCreateRequest request) {
+        if (!SUB_DIRECTORIES.contains(request.getSubDirectory())) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (request.getTotalSize() > maxSize.toBytes()) {
+            throw new CustomException(ErrorCode.FILE_TOO_LARGE);
+        }
+
+        int size = (int) chunkSize.toBytes();
+        long chunkCount = (request.getTotalSize() + size - 1) / size;
+        if (chunkCount > MAX_CHUNK_COUNT) {
+            throw new CustomException(ErrorCode.FILE_TOO_LARGE);
+        }
+
+        // 사용자 행을 잠가 같은 사용자의 동시 생성 요청이 한도 확인을 모두 통과하지 않도록 함 (커밋까지 유지)
+        if (userRepository.lockActiveUserId(userId).isEmpty()) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+        UploadUsageProjection usage = uploadSessionRepository.findActiveUsageByUserId(userId, LocalDateTime.now());
+        if (usage.getSessionCount() >= maxActivePerUser
+                || usage.getTotalBytes() + request.getTotalSize() > maxBytesPerUser.toBytes()) {
+            throw new CustomException(ErrorCode.UPLOAD_SESSION_LIMIT_EXCEEDED);
+        }
+
+        UploadSession session = UploadSession.builder()
+                .uploadId(UUID.randomUUID().toString())
+                .userId(userId)
+                .subDirectory(request.getSubDirectory())
+                .originalFilename(request.getOriginalFilename())
+                .totalSize(request.getTotalSize())
+                .chunkSize(size)
+                .chunkCount((int) chunkCount)
+                .receivedChunks(new byte[0])
+                .expiresAt(LocalDateTime.now().plusHours(ttlHours))
+                .build();
+
+        // 전체 크기만큼 미리 할당하여 청크를 순서와 관계없이 제자리에 기록
+        try (RandomAccessFile file = new RandomAccessFile(partPath(session).toFile(), "rw")) {
+            file.setLength(session.getTotalSize());
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+
+        return toResponse(uploadSessionRepository.save(session));
+    }
+
+    /**
+     * 업로드 세션 조회 (받은 구간 확인용)
+     * @param userId 사용자 ID
+     * @param uploadId 업로드 세션 ID
+     * @return 업로드 세션 응답 DTO
+     */
+    @Transactional(readOnly = true)
+    public UploadDTOs.UploadSessionResponse getSession(Integer userId, String uploadId) {
+        return toResponse(findActive(userId, uploadId));
+    }
+
+    /**
+     * 청크 기록
+     * 파일 기록은 트랜잭션 밖에서 하고, 받은 청크 표시만 짧은 트랜잭션으로 반영한다.
+     * 같은 청크를 다시 보내면 같은 위치에 덮어쓰므로 재전송해도 안전하다.
+     * @param userId 사용자 ID
+     * @param uploadId 업로드 세션 ID
+     * @param index 청크 번호 (0부터 시작)
+     * @param offset 청크 시작 위치 (선택, 지정 시 번호와 일치해야 함)
+     * @param in 청크 본문
+     * @param contentLength Content-Length (알 수 없으면 -1)
+     * @return 업로드 세션 응답 DTO
+     */
+    public UploadDTOs.UploadSessionResponse writeChunk(Integer userId, String uploadId, int index, Long offset,
+                                                       InputStream in, long contentLength) {
+        UploadSession session = findWritable(userId, uploadId);
+        if (index < 0 || index >= session.getChunkCount()) {
+            throw new CustomException(ErrorCode.INVALID_UPLOAD_CHUNK);
+        }
+
+        long start = (long) index * session.getChunkSize();
+        long length = Math.min(session.getChunkSize(), session.getTotalSize() - start);
+        if ((offset != null && offset != start) || (contentLength >= 0 && contentLength != length)) {
+            throw new CustomException(ErrorCode.INVALID_UPLOAD_CHUNK);
+        }
+
+        try {
+            writeAt(partPath(session), in, start, length);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+
+        return transaction.execute(status -> {
+            UploadSession locked = uploadSessionRepository.findByIdForUpdate(uploadId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.UPLOAD_SESSION_NOT_FOUND));
+            if (locked.getCompletingAt() != null) {
+                throw new CustomException(ErrorCode.UPLOAD_COMPLETING);
+            }
+            BitSet received = BitSet.valueOf(locked.getReceivedChunks());
+            received.set(index);
+            locked.setReceivedChunks(received.toByteArray());
+            // 청크를 받을 때마다 만료 시각 연장
+            locked.setExpiresAt(LocalDateTime.now().plusHours(ttlHours));
+            return toResponse(uploadSessionRepository.save(locked));
+        });
+    }
+
+    /**
+     * 업로드 완료
+     * 모든 청크를 받았으면 형식을 확인하고 저장 파일로 등록한 뒤 세션을 삭제한다.
+     * 세션 행은 완료 중 표시를 할 때만 잠그고, 파일 해시 계산과 저장은 잠금과 트랜잭션 밖에서 한다.
+     * @param userId 사용자 ID
+     * @param uploadId 업로드 세션 ID
+     * @return 파일 정보 DTO
+     */
+    public FileDTO complete(Integer userId, String uploadId) {
+        // 동시에 완료 요청이 와도 한 번만 처리
+        UploadSession session = transaction.execute(status -> {
+            // 만료된 세션은 정리 작업이 .part 파일을 지우는 중일 수 있으므로 완료하지 않음
+            UploadSession locked = uploadSessionRepository.findByIdForUpdate(uploadId)
+                    .filter(found -> isActive(found, userId))
+                    .orElseThrow(() -> new CustomException(ErrorCode.UPLOAD_SESSION_NOT_FOUND));
+            if (BitSet.valueOf(locked.getReceivedChunks()).cardinality() < locked.getChunkCount()) {
+                throw new CustomException(ErrorCode.UPLOAD_INCOMPLETE);
+            }
+            // 완료 도중 서버가 멈춘 경우를 위해 오래된 완료 표시는 무시
+            if (locked.getCompletingAt() != null
+                    && locked.getCompletingAt().isAfter(LocalDateTime.now().minus(COMPLETE_TIMEOUT))) {
+                throw new CustomException(ErrorCode.UPLOAD_COMPLETING);
+            }
+            locked.setCompletingAt(LocalDateTime.now());
+            return uploadSessionRepository.save(locked);
+        });
+
+        Path part = partPath(session);
+        FileDTO fileDTO;
+        try {
+            fileDTO = fileService.storeAssembled(part, session.getOriginalFilename(), session.getSubDirectory());
+        } catch (RuntimeException e) {
+            // 실패하면 완료 표시를 지워 다시 시도할 수 있게 함
+            transaction.executeWithoutResult(status -> uploadSessionRepository.findByIdForUpdate(uploadId)
+                    .ifPresent(locked -> locked.setCompletingAt(null)));
+            throw e;
+        }
+
+        uploadSessionRepository.deleteById(uploadId);
+        try {
+            // 같은 내용의 파일이 이미 있어 넘기지 않았거나, 원격 저장소로 업로드한 경우
+            Files.deleteIfExists(part);
+        } catch (IOException e) {
+            log.warn("Failed to delete upload part {}: {}", part.getFileName(), e.getMessage());
+        }
+        return fileDTO;
+    }
+
+    /**
+     * 만료된 미완료 세션 정리
+     */
+    @Scheduled(fixedDelayString = "${file.upload.session.cleanup-interval-ms:600000}")
+    public void cleanupExpired() {
+        List<UploadSession> expired = uploadSessionRepository.findByExpiresAtBeforeOrderByExpiresAtAsc(
+                LocalDateTime.now(), PageRequest.of(0, cleanupBatchSize));
+
+        for (UploadSession session : expired) {
+            try {
+                Files.deleteIfExists(partPath(session));
+                uploadSessionRepository.deleteById(session.getUploadId());
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to clean up upload session {}: {}", session.getUploadId(), e.getMessage());
+            }
+        }
+        if (!expired.isEmpty()) {
+            log.info("Cleaned up {} expired upload sessions", expired.size());
+        }
+    }
+
+    /**
+     * 사용자의 만료되지 않은 세션 조회 (다른 사용자의 세션은 없는 것으로 처리)
+     */
+    private UploadSession findActive(Integer userId, String uploadId) {
+        return uploadSessionRepository.findById(uploadId)
+                .filter(session -> isActive(session, userId))
+                .orElseThrow(() -> new CustomException(ErrorCode.UPLOAD_SESSION_NOT_FOUND));
+    }
+
+    private boolean isActive(UploadSession session, Integer userId) {
+        return session.getUserId().equals(userId) && session.getExpiresAt().isAfter(LocalDateTime.now());
+    }
+
+    private UploadSession findWritable(Integer userId, String uploadId) {
+        UploadSession session = findActive(userId, uploadId);
+        if (session.getCompletingAt() != null) {
+            throw new CustomException(ErrorCode.UPLOAD_COMPLETING);
+        }
+        return session;
+    }
+
+    /**
+     * 스트림을 파일의 지정 위치에 기록
+     * 청크 길이와 실제 본문 길이가 다르면 받은 청크로 표시하지 않도록 예외를 던진다.
+     */
+    private void writeAt(Path part, InputStream in, long start, long length) throws IOException {
+        try (FileChannel channel = FileChannel.open(part, StandardOpenOption.WRITE)) {
+            byte[] buffer = new byte[8192];
+            long position = start;
+            long end = start + length;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (position + read > end) {
+                    throw new CustomException(ErrorCode.INVALID_UPLOAD_CHUNK);
+                }
+                ByteBuffer source = ByteBuffer.wrap(buffer, 0, read);
+                while (source.hasRemaining()) {
+                    position += channel.write(source, position);
+                }
+            }
+            if (position != end) {
+                throw new CustomException(ErrorCode.INVALID_UPLOAD_CHUNK);
+            }
+        }
+    }
+
+    private Path partPath(UploadSession session) {
+        try {
+            // 로컬 저장소와 같은 파일 시스템에 두어 완료 시 rename만으로 이동
+            return fileService.stagingDirectory().resolve(session.getUploadId() + PART_SUFFIX);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+    }
+
+    private UploadDTOs.UploadSessionResponse toResponse(UploadSession session) {
+        BitSet received = BitSet.valueOf(session.getReceivedChunks());
+
+        // 연속한 청크를 바이트 구간 하나로 합침
+        List<UploadDTOs.ByteRange> ranges = new ArrayList<>();
+        int from = received.nextSetBit(0);
+        while (from >= 0) {
+            int to = received.nextClearBit(from);
+            ranges.add(UploadDTOs.ByteRange.builder()
+                    .start((long) from * session.getChunkSize())
+                    .end(Math.min((long) to * session.getChunkSize(), session.getTotalSize()) - 1)
+                    .build());
+            from = received.nextSetBit(to);
+        }
+
+        return UploadDTOs.UploadSessionResponse.builder()
+                .uploadId(session.getUploadId())
+                .totalSize(session.getTotalSize())
+                .chunkSize(session.getChunkSize())
+                .chunkCount(session.getChunkCount())
+                .receivedRanges(ranges)
+                .complete(received.cardinality() >= session.getChunkCount())
+                .expiresAt(session.getExpiresAt())
+                .build();
+    }
+}
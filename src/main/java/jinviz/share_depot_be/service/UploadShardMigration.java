@@ -0,0 +1,122 @@
+package jinviz.share_depot_be.service;
+
+import jinviz.share_depot_be.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 평면 업로드 디렉토리를 샤딩 구조로 옮기는 일회성 마이그레이션
+ * 서버를 내리지 않고 실행하도록 한 번에 batchSize개씩만 옮긴다. 옮기는 중에도 FileService는
+ * 샤딩 경로에 없는 파일을 이전 경로에서 찾으므로 다운로드 URL은 그대로 동작한다.
+ * 옮길 파일이 더 없으면 멈추고, 다음 서버 시작 때 다시 한 번 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadShardMigration {
+
+    @Value("${file.storage.shard-migration.enabled:false}")
+    private boolean enabled;
+
+    @Value("${file.storage.shard-migration.batch-size:500}")
+    private int batchSize;
+
+    private final FileService fileService;
+
+    private volatile boolean finished;
+    private long movedTotal;
+
+    /**
+     * 평면 경로에 남은 파일을 배치 하나만큼 옮김
+     */
+    @Scheduled(fixedDelayString = "${file.storage.shard-migration.interval-ms:1000}")
+    public void migrateBatch() {
+        if (!enabled || finished) {
+            return;
+        }
+
+        try {
+            List<Move> moves = findLegacyFiles();
+            for (Move move : moves) {
+                moveFile(move);
+            }
+            movedTotal += moves.size();
+
+            if (moves.isEmpty()) {
+                finished = true;
+                log.info("Upload shard migration finished ({} files moved)", movedTotal);
+            }
+        } catch (IOException e) {
+            log.warn("Upload shard migration failed, retrying next run: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 하위 디렉토리 바로 아래에 남은 파일 조회 (최대 batchSize개)
+     * 작성 중인 임시 파일(.tmp)과 분할 업로드 파일(.part)은 제외한다.
+     */
+    private List<Move> findLegacyFiles() throws IOException {
+        List<Move> moves = new ArrayList<>();
+        // 디렉토리 구조가 있는 로컬 저장소에만 해당
+        Path baseDir = fileService.localRoot().orElse(null);
+        if (baseDir == null || !Files.isDirectory(baseDir)) {
+            return moves;
+        }
+
+        try (DirectoryStream<Path> subDirectories = Files.newDirectoryStream(baseDir, Files::isDirectory)) {
+            for (Path subDirectory : subDirectories) {
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(subDirectory, Files::isRegularFile)) {
+                    for (Path file : files) {
+                        String filename = file.getFileName().toString();
+                        if (filename.endsWith(".tmp") || filename.endsWith(UploadSessionService.PART_SUFFIX)) {
+                            continue;
+                        }
+                        Path target = shardedPath(baseDir, subDirectory.getFileName().toString(), filename);
+                        if (target != null && !target.equals(file)) {
+                            moves.add(new Move(file, target));
+                            if (moves.size() >= batchSize) {
+                                return moves;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return moves;
+    }
+
+    /**
+     * 샤딩 경로 계산 (저장 키로 쓸 수 없는 파일명이면 null)
+     */
+    private Path shardedPath(Path baseDir, String subDirectory, String filename) {
+        try {
+            return baseDir.resolve(fileService.shardedKey(subDirectory, filename));
+        } catch (CustomException e) {
+            return null;
+        }
+    }
+
+    private void moveFile(Move move) throws IOException {
+        Files.createDirectories(move.target().getParent());
+        if (Files.exists(move.target())) {
+            // 파일명이 내용 해시나 UUID이므로 같은 이름이면 같은 파일
+            Files.deleteIfExists(move.source());
+            return;
+        }
+        Files.move(move.source(), move.target(), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private record Move(Path source, Path target) {
+    }
+}
@@ -2,35 +2,37 @@ package jinviz.share_depot_be.service;
 
 import jinviz.share_depot_be.dto.UserDTOs;
 import jinviz.share_depot_be.entity.User;
+import jinviz.share_depot_be.event.UserWithdrawnEvent;
 import jinviz.share_depot_be.exception.CustomException;
 import jinviz.share_depot_be.exception.ErrorCode;
-import jinviz.share_depot_be.repository.CommentRepository;
-import jinviz.share_depot_be.repository.LikeRepository;
-import jinviz.share_depot_be.repository.PostRepository;
 import jinviz.share_depot_be.repository.UserRepository;
+import jinviz.share_depot_be.security.TokenRevocationStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
-    private final LikeRepository likeRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final AccountPurgeService accountPurgeService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 현재 로그인한 사용자 정보 조회
-     * @param email 이메일
+     * @param userId 사용자 ID
      * @return 사용자 정보 응답 DTO
      */
     @Transactional(readOnly = true)
-    public UserDTOs.UserInfoResponse getMyInfo(String email) {
-        User user = userRepository.findByEmail(email)
+    public UserDTOs.UserInfoResponse getMyInfo(Integer userId) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         return UserDTOs.UserInfoResponse.fromEntity(user);
@@ -38,13 +40,13 @@ public class UserService {
 
     /**
      * 사용자 정보 업데이트
-     * @param email 현재 로그인한 사용자 이메일
+     * @param userId 현재 로그인한 사용자 ID
      * @param request 사용자 정보 수정 요청 DTO
      * @return 업데이트된 사용자 정보 응답 DTO
      */
     @Transactional
-    public UserDTOs.UserInfoResponse updateUserInfo(String email, UserDTOs.UserUpdateRequest request) {
-        User user = userRepository.findByEmail(email)
+    public UserDTOs.UserInfoResponse updateUserInfo(Integer userId, UserDTOs.UserUpdateRequest request) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         // 닉네임 변경 시 중복 확인
@@ -66,12 +68,12 @@ public class UserService {
 
     /**
      * 비밀번호 변경
-     * @param email 현재 로그인한 사용자 이메일
+     * @param userId 현재 로그인한 사용자 ID
      * @param request 비밀번호 변경 요청 DTO
      */
     @Transactional
-    public void changePassword(String email, UserDTOs.PasswordChangeRequest request) {
-        User user = userRepository.findByEmail(email)
+    public void changePassword(Integer userId, UserDTOs.PasswordChangeRequest request) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         // 현재 비밀번호 확인
@@ -91,24 +93,25 @@ public class UserService {
 
     /**
      * 회원 탈퇴
-     * @param email 현재 로그인한 사용자 이메일
+     * 계정을 탈퇴 상태로 표시하여 로그인과 작성 글 노출을 바로 막고,
+     * 좋아요/댓글/게시글/계정 삭제는 정리 작업으로 등록하여 백그라운드에서 처리한다.
+     * 게시글 조회 쿼리는 탈퇴한 사용자의 글을 걸러내고, 메모리 인덱스/캐시의 글은 커밋 후 탈퇴 이벤트로 바로 내린다.
+     * @param userId 현재 로그인한 사용자 ID
      */
     @Transactional
-    public void withdrawUser(String email) {
-        User user = userRepository.findByEmail(email)
+    public void withdrawUser(Integer userId) {
+        User user = userRepository.findById(userId)
+                .filter(found -> found.getDeletedAt() == null)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        // 관련 데이터 삭제
-        likeRepository.deleteByUserUserId(user.getUserId());
-        commentRepository.deleteByUserUserId(user.getUserId());
-        // 게시글은 개별 처리 필요 (첨부 파일 등이 있을 수 있음)
-        user.getPosts().forEach(post -> {
-            likeRepository.deleteByPostPostId(post.getPostId());
-            commentRepository.deleteByPostPostId(post.getPostId());
-        });
-        postRepository.deleteAll(user.getPosts());
-
-        // 사용자 삭제
-        userRepository.delete(user);
+        user.setDeletedAt(LocalDateTime.now());
+        userRepository.save(user);
+        accountPurgeService.enqueue(user.getUserId());
+
+        // 발급된 토큰 폐기 (stateless 인증에서는 DB 조회 없이 토큰만 검증하므로)
+        tokenRevocationStore.revokeUser(user.getUserId());
+
+        // 인기 게시글 인덱스와 상세 캐시에서 작성 글 제거 (커밋 후)
+        eventPublisher.publishEvent(new UserWithdrawnEvent(user.getUserId()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package jinviz.share_depot_be.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 조회수 쓰기 지연(write-behind) 버퍼
+ * 조회 시마다 POSTS 행을 UPDATE 하지 않고 게시글별 LongAdder에 누적한 뒤
+ * 일정 주기(또는 종료 시)에 한 번의 배치 UPDATE로 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE POSTS SET views = views + ? WHERE post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 게시글 ID별 아직 반영되지 않은 조회수
+    private final ConcurrentHashMap<Integer, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // DB 반영 중인 조회수 (반영이 끝날 때까지 조회 결과에 포함)
+    private final ConcurrentHashMap<Integer, Long> flushing = new ConcurrentHashMap<>();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /**
+     * 조회수 1 증가
+     * @param postId 게시글 ID
+     */
+    public void increment(Integer postId) {
+        while (true) {
+            LongAdder adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+            adder.increment();
+            // flush가 빈 카운터를 제거한 뒤에 더해졌다면 버려진 카운터이므로 새 카운터에 다시 더함
+            if (pending.get(postId) == adder) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 조회
+     * @param postId 게시글 ID
+     * @return 버퍼에 누적된 조회수
+     */
+    public long getBufferedViews(Integer postId) {
+        LongAdder adder = pending.get(postId);
+        long buffered = adder == null ? 0 : adder.sum();
+        return buffered + flushing.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * 누적된 조회수를 배치 UPDATE로 반영
+     * 한 주기 동안 증가가 없었던 게시글은 버퍼에서 제거한다.
+     */
+    @Scheduled(fixedDelayString = "${post.views.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Integer, Long> batch = new HashMap<>();
+            pending.forEach((postId, adder) -> {
+                long count = adder.sumThenReset();
+                if (count > 0) {
+                    flushing.put(postId, count);
+                    batch.put(postId, count);
+                } else {
+                    // 확인과 제거를 한 번에 처리하여, 그사이 증가한 카운터는 남김
+                    pending.computeIfPresent(postId, (id, current) -> current.sum() == 0 ? null : current);
+                }
+            });
+
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            // 게시글 ID 순으로 정렬하여 행 락 획득 순서를 고정
+            List<Object[]> args = batch.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                    .toList();
+
+            try {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+            } catch (DataAccessException e) {
+                // 반영에 실패한 조회수는 다음 주기에 다시 시도
+                log.warn("Failed to flush view counts for {} posts: {}", batch.size(), e.getMessage());
+                batch.forEach((postId, count) -> pending.computeIfAbsent(postId, id -> new LongAdder()).add(count));
+            } finally {
+                batch.keySet().forEach(flushing::remove);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,91 @@
+package jinviz.share_depot_be.storage;
+
+import org.apache.commons.io.input.BoundedInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+
+/**
+ * 로컬 디스크 저장소 (file.upload.directory 아래에 키 경로 그대로 저장)
+ */
+public class LocalStorageBackend implements StorageBackend {
+
+    private final Path baseDir;
+
+    public LocalStorageBackend(Path baseDir) {
+        this.baseDir = baseDir.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        // 임시 파일이 같은 파일 시스템에 있으므로 복사 없는 rename
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public InputStream getRange(String key, long start, long length) throws IOException {
+        FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ);
+        channel.position(start);
+        // 스트림을 닫으면 채널도 닫힘
+        return new BoundedInputStream(Channels.newInputStream(channel), length);
+    }
+
+    @Override
+    public Optional<ObjectStat> stat(String key) throws IOException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(resolve(key), BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return Optional.empty();
+            }
+            return Optional.of(new ObjectStat(attributes.size(), attributes.lastModifiedTime().toMillis()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        return Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public Path stagingDirectory() throws IOException {
+        Files.createDirectories(baseDir);
+        return baseDir;
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.of(resolve(key));
+    }
+
+    @Override
+    public Optional<Path> localRoot() {
+        return Optional.of(baseDir);
+    }
+
+    private Path resolve(String key) {
+        Path path = baseDir.resolve(key).normalize();
+        // 기준 디렉토리 밖의 경로(../ 등)는 허용하지 않음
+        if (!path.startsWith(baseDir) || path.equals(baseDir)) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return path;
+    }
+}
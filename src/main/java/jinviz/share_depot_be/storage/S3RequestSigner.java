@@ -0,0 +1,183 @@
+package jinviz.share_depot_be.storage;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * S3 요청 서명 (AWS Signature Version 4)
+ * 요청 헤더 서명과 쿼리 문자열 서명(presigned URL)을 지원한다. 본문은 서명하지 않는다. (UNSIGNED-PAYLOAD)
+ */
+public class S3RequestSigner {
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String SERVICE = "s3";
+    private static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+
+    private final String accessKey;
+    private final String secretKey;
+    private final String region;
+
+    public S3RequestSigner(String accessKey, String secretKey, String region) {
+        this.accessKey = accessKey;
+        this.secretKey = secretKey;
+        this.region = region;
+    }
+
+    /**
+     * 요청 헤더 서명
+     * @param method HTTP 메서드
+     * @param uri 요청 URI
+     * @param now 서명 시각
+     * @return 요청에 추가할 헤더 (x-amz-date, x-amz-content-sha256, Authorization)
+     */
+    public Map<String, String> signHeaders(String method, URI uri, Instant now) {
+        String amzDate = DATE_TIME.format(now);
+        String scope = scope(now);
+
+        Map<String, String> headers = new TreeMap<>();
+        headers.put("host", host(uri));
+        headers.put("x-amz-content-sha256", UNSIGNED_PAYLOAD);
+        headers.put("x-amz-date", amzDate);
+        String signedHeaders = String.join(";", headers.keySet());
+
+        String canonicalRequest = canonicalRequest(method, uri, canonicalQuery(uri.getRawQuery(), Map.of()),
+                headers, signedHeaders);
+        String signature = signature(now, stringToSign(amzDate, scope, canonicalRequest));
+
+        Map<String, String> result = new LinkedHashMap<>();
+        result.put("x-amz-date", amzDate);
+        result.put("x-amz-content-sha256", UNSIGNED_PAYLOAD);
+        result.put("Authorization", ALGORITHM + " Credential=" + accessKey + "/" + scope
+                + ", SignedHeaders=" + signedHeaders + ", Signature=" + signature);
+        return result;
+    }
+
+    /**
+     * 쿼리 문자열 서명 URL 생성 (presigned URL)
+     * @param method HTTP 메서드
+     * @param uri 요청 URI
+     * @param now 서명 시각
+     * @param ttl 유효 시간 (최대 7일)
+     * @return 서명된 URI
+     */
+    public URI presign(String method, URI uri, Instant now, Duration ttl) {
+        String amzDate = DATE_TIME.format(now);
+        String scope = scope(now);
+
+        Map<String, String> parameters = new TreeMap<>();
+        parameters.put("X-Amz-Algorithm", ALGORITHM);
+        parameters.put("X-Amz-Credential", accessKey + "/" + scope);
+        parameters.put("X-Amz-Date", amzDate);
+        parameters.put("X-Amz-Expires", Long.toString(ttl.toSeconds()));
+        parameters.put("X-Amz-SignedHeaders", "host");
+        String query = canonicalQuery(uri.getRawQuery(), parameters);
+
+        Map<String, String> headers = Map.of("host", host(uri));
+        String canonicalRequest = canonicalRequest(method, uri, query, headers, "host");
+        String signature = signature(now, stringToSign(amzDate, scope, canonicalRequest));
+
+        String base = uri.getScheme() + "://" + uri.getRawAuthority() + uri.getRawPath();
+        return URI.create(base + "?" + query + "&X-Amz-Signature=" + signature);
+    }
+
+    private String canonicalRequest(String method, URI uri, String query, Map<String, String> headers, String signedHeaders) {
+        String canonicalHeaders = headers.entrySet().stream()
+                .map(header -> header.getKey() + ":" + header.getValue().trim() + "\n")
+                .collect(Collectors.joining());
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        return method + "\n" + path + "\n" + query + "\n" + canonicalHeaders + "\n" + signedHeaders + "\n" + UNSIGNED_PAYLOAD;
+    }
+
+    /**
+     * 쿼리 파라미터를 이름 순으로 정렬하고 RFC 3986 방식으로 인코딩
+     */
+    private String canonicalQuery(String rawQuery, Map<String, String> extra) {
+        Map<String, String> parameters = new TreeMap<>();
+        if (rawQuery != null && !rawQuery.isEmpty()) {
+            for (String pair : rawQuery.split("&")) {
+                int separator = pair.indexOf('=');
+                String name = separator < 0 ? pair : pair.substring(0, separator);
+                String value = separator < 0 ? "" : pair.substring(separator + 1);
+                parameters.put(decode(name), decode(value));
+            }
+        }
+        parameters.putAll(extra);
+        return parameters.entrySet().stream()
+                .map(parameter -> encode(parameter.getKey()) + "=" + encode(parameter.getValue()))
+                .collect(Collectors.joining("&"));
+    }
+
+    private String stringToSign(String amzDate, String scope, String canonicalRequest) {
+        return ALGORITHM + "\n" + amzDate + "\n" + scope + "\n" + hex(sha256(canonicalRequest));
+    }
+
+    private String signature(Instant now, String stringToSign) {
+        byte[] key = hmac(("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8), DATE.format(now));
+        key = hmac(key, region);
+        key = hmac(key, SERVICE);
+        key = hmac(key, "aws4_request");
+        return hex(hmac(key, stringToSign));
+    }
+
+    private String scope(Instant now) {
+        return DATE.format(now) + "/" + region + "/" + SERVICE + "/aws4_request";
+    }
+
+    private static String host(URI uri) {
+        boolean defaultPort = uri.getPort() == -1
+                || ("http".equals(uri.getScheme()) && uri.getPort() == 80)
+                || ("https".equals(uri.getScheme()) && uri.getPort() == 443);
+        return defaultPort ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8)
+                .replace("+", "%20")
+                .replace("*", "%2A")
+                .replace("%7E", "~");
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] hmac(byte[] key, String value) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        return HexFormat.of().formatHex(bytes);
+    }
+}
@@ -0,0 +1,158 @@
+package jinviz.share_depot_be.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * S3 호환 객체 저장소 (path-style: {endpoint}/{bucket}/{key})
+ * 요청은 SigV4로 서명하고, 다운로드는 presigned URL로 넘겨 애플리케이션이 바이트를 중계하지 않도록 할 수 있다.
+ */
+public class S3StorageBackend implements StorageBackend {
+
+    private final HttpClient httpClient;
+    private final URI endpoint;
+    private final String bucket;
+    private final S3RequestSigner signer;
+    private final Path stagingDirectory;
+    private final Duration requestTimeout;
+    private final Clock clock;
+
+    public S3StorageBackend(HttpClient httpClient, URI endpoint, String bucket, S3RequestSigner signer,
+                            Path stagingDirectory, Duration requestTimeout, Clock clock) {
+        this.httpClient = httpClient;
+        this.endpoint = endpoint;
+        this.bucket = bucket;
+        this.signer = signer;
+        this.stagingDirectory = stagingDirectory.toAbsolutePath().normalize();
+        this.requestTimeout = requestTimeout;
+        this.clock = clock;
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        HttpRequest request = signed("PUT", key)
+                .header("Content-Type", contentType)
+                .PUT(HttpRequest.BodyPublishers.ofFile(source))
+                .build();
+        HttpResponse<Void> response = send(request, HttpResponse.BodyHandlers.discarding());
+        if (!isSuccess(response.statusCode())) {
+            throw new IOException("PUT " + key + " failed with status " + response.statusCode());
+        }
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        HttpRequest request = signed("GET", key).GET().build();
+        return body(key, send(request, HttpResponse.BodyHandlers.ofInputStream()));
+    }
+
+    @Override
+    public InputStream getRange(String key, long start, long length) throws IOException {
+        // Range 헤더는 서명 대상이 아니므로 서명 후 추가해도 됨
+        HttpRequest request = signed("GET", key)
+                .header("Range", "bytes=" + start + "-" + (start + length - 1))
+                .GET()
+                .build();
+        return body(key, send(request, HttpResponse.BodyHandlers.ofInputStream()));
+    }
+
+    @Override
+    public Optional<ObjectStat> stat(String key) throws IOException {
+        HttpRequest request = signed("HEAD", key).method("HEAD", HttpRequest.BodyPublishers.noBody()).build();
+        HttpResponse<Void> response = send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 404) {
+            return Optional.empty();
+        }
+        if (!isSuccess(response.statusCode())) {
+            throw new IOException("HEAD " + key + " failed with status " + response.statusCode());
+        }
+
+        long size = response.headers().firstValueAsLong("Content-Length").orElse(0L);
+        long lastModified = response.headers().firstValue("Last-Modified")
+                .map(S3StorageBackend::parseHttpDate)
+                .orElse(0L);
+        return Optional.of(new ObjectStat(size, lastModified));
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        HttpRequest request = signed("DELETE", key).DELETE().build();
+        HttpResponse<Void> response = send(request, HttpResponse.BodyHandlers.discarding());
+        // S3는 없는 객체를 삭제해도 204로 응답
+        if (response.statusCode() == 404) {
+            return false;
+        }
+        if (!isSuccess(response.statusCode())) {
+            throw new IOException("DELETE " + key + " failed with status " + response.statusCode());
+        }
+        return true;
+    }
+
+    @Override
+    public Path stagingDirectory() throws IOException {
+        Files.createDirectories(stagingDirectory);
+        return stagingDirectory;
+    }
+
+    @Override
+    public Optional<URI> presignGet(String key, Duration ttl) {
+        return Optional.of(signer.presign("GET", objectUri(key), clock.instant(), ttl));
+    }
+
+    private HttpRequest.Builder signed(String method, String key) {
+        URI uri = objectUri(key);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(requestTimeout);
+        signer.signHeaders(method, uri, clock.instant()).forEach(builder::header);
+        return builder;
+    }
+
+    private URI objectUri(String key) {
+        String base = endpoint.toString().replaceAll("/+$", "");
+        return URI.create(base + "/" + bucket + "/" + key);
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) throws IOException {
+        try {
+            return httpClient.send(request, handler);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while calling object storage", e);
+        }
+    }
+
+    private InputStream body(String key, HttpResponse<InputStream> response) throws IOException {
+        if (isSuccess(response.statusCode())) {
+            return response.body();
+        }
+        response.body().close();
+        if (response.statusCode() == 404) {
+            throw new NoSuchFileException(key);
+        }
+        throw new IOException("GET " + key + " failed with status " + response.statusCode());
+    }
+
+    private static boolean isSuccess(int status) {
+        return status >= 200 && status < 300;
+    }
+
+    private static long parseHttpDate(String value) {
+        try {
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return 0L;
+        }
+    }
+}
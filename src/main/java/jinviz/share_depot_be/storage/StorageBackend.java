@@ -0,0 +1,99 @@
+package jinviz.share_depot_be.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 업로드 파일 저장소
+ * 파일은 "하위 디렉토리/.../파일명" 형식의 키로 구분하며, 로컬 디스크와 S3 호환 객체 저장소 구현을 설정으로 선택한다.
+ * 업로드 중인 파일은 항상 로컬 임시 디렉토리(stagingDirectory)에 먼저 기록한 뒤 put으로 저장소에 넘긴다.
+ */
+public interface StorageBackend {
+
+    /**
+     * 기록이 끝난 로컬 파일 저장
+     * 로컬 저장소는 파일을 이동하고, 원격 저장소는 업로드한다. (남은 원본 파일은 호출한 쪽에서 삭제)
+     * @param key 저장 키
+     * @param source 기록이 끝난 파일 (stagingDirectory 안)
+     * @param contentType 컨텐츠 타입
+     */
+    void put(String key, Path source, String contentType) throws IOException;
+
+    /**
+     * 파일 전체 읽기
+     * @param key 저장 키
+     * @return 파일 내용 스트림
+     * @throws java.nio.file.NoSuchFileException 파일이 없으면
+     */
+    InputStream get(String key) throws IOException;
+
+    /**
+     * 파일 구간 읽기
+     * @param key 저장 키
+     * @param start 시작 위치 (바이트)
+     * @param length 읽을 길이 (바이트)
+     * @return 구간 내용 스트림
+     * @throws java.nio.file.NoSuchFileException 파일이 없으면
+     */
+    InputStream getRange(String key, long start, long length) throws IOException;
+
+    /**
+     * 파일 정보 조회
+     * @param key 저장 키
+     * @return 파일 정보 (없으면 empty)
+     */
+    Optional<ObjectStat> stat(String key) throws IOException;
+
+    /**
+     * 파일 삭제
+     * @param key 저장 키
+     * @return 삭제 여부 (원격 저장소는 대상이 없어도 true일 수 있음)
+     */
+    boolean delete(String key) throws IOException;
+
+    /**
+     * 업로드 임시 파일을 기록할 로컬 디렉토리 (없으면 생성)
+     * 로컬 저장소는 put이 복사 없는 rename이 되도록 같은 파일 시스템의 디렉토리를 사용한다.
+     * @return 디렉토리 경로
+     */
+    Path stagingDirectory() throws IOException;
+
+    /**
+     * 로컬 파일 경로 (sendfile 등 파일 시스템 직접 접근용)
+     * @param key 저장 키
+     * @return 로컬 저장소이면 파일 경로, 아니면 empty
+     */
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    /**
+     * 로컬 저장소 기준 디렉토리 (디렉토리 순회가 필요한 정리/마이그레이션 작업용)
+     * @return 로컬 저장소이면 기준 디렉토리, 아니면 empty
+     */
+    default Optional<Path> localRoot() {
+        return Optional.empty();
+    }
+
+    /**
+     * 클라이언트가 저장소에서 직접 내려받을 수 있는 서명 URL 생성
+     * @param key 저장 키
+     * @param ttl 유효 시간
+     * @return 서명 URL (지원하지 않으면 empty)
+     */
+    default Optional<URI> presignGet(String key, Duration ttl) {
+        return Optional.empty();
+    }
+
+    /**
+     * 저장된 파일 정보
+     * @param size 파일 크기 (바이트)
+     * @param lastModified 마지막 수정 시각 (epoch millis)
+     */
+    record ObjectStat(long size, long lastModified) {
+    }
+}
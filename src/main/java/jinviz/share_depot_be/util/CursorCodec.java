@@ -0,0 +1,68 @@
+package jinviz.share_depot_be.util;
+
+import jinviz.share_depot_be.exception.CustomException;
+import jinviz.share_depot_be.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 커서 기반 페이징에 사용하는 불투명(opaque) 커서 인코더/디코더
+ * 정렬 키 값들을 구분자로 이어 붙인 뒤 URL-safe Base64로 인코딩한다.
+ */
+public final class CursorCodec {
+
+    private static final String DELIMITER = "|";
+
+    private CursorCodec() {
+    }
+
+    /**
+     * 커서 인코딩
+     * @param parts 정렬 키 값 (순서대로)
+     * @return 커서 문자열
+     */
+    public static String encode(Object... parts) {
+        String raw = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 디코딩
+     * @param cursor 커서 문자열
+     * @param expectedParts 기대하는 정렬 키 개수
+     * @return 정렬 키 문자열 배열
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != expectedParts) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 커서 정렬 키 값 변환
+     * @param part 정렬 키 문자열
+     * @param parser 변환 함수
+     * @return 변환된 값
+     * @param <T> 값 타입
+     */
+    public static <T> T parse(String part, Function<String, T> parser) {
+        try {
+            return parser.apply(part);
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
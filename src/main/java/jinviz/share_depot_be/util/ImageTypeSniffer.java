@@ -0,0 +1,58 @@
+package jinviz.share_depot_be.util;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 파일 앞부분의 매직 바이트로 실제 이미지 형식을 판별
+ * 확장자나 Content-Type 헤더는 클라이언트가 임의로 보낼 수 있으므로 저장 형식은 내용으로 결정한다.
+ */
+public final class ImageTypeSniffer {
+
+    // 판별에 필요한 최대 바이트 수
+    public static final int HEADER_LENGTH = 8;
+
+    private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] GIF87A = {'G', 'I', 'F', '8', '7', 'a'};
+    private static final byte[] GIF89A = {'G', 'I', 'F', '8', '9', 'a'};
+
+    private ImageTypeSniffer() {
+    }
+
+    /**
+     * 이미지 형식 판별
+     * @param header 파일 앞부분 (HEADER_LENGTH 바이트 이하)
+     * @return 확장자 (jpg, png, gif), 지원하지 않는 형식이면 empty
+     */
+    public static Optional<String> detectExtension(byte[] header) {
+        if (startsWith(header, JPEG)) {
+            return Optional.of("jpg");
+        }
+        if (startsWith(header, PNG)) {
+            return Optional.of("png");
+        }
+        if (startsWith(header, GIF87A) || startsWith(header, GIF89A)) {
+            return Optional.of("gif");
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 확장자에 해당하는 Content-Type
+     * @param extension 확장자 (jpg, png, gif)
+     * @return Content-Type
+     */
+    public static String contentType(String extension) {
+        return switch (extension) {
+            case "jpg" -> "image/jpeg";
+            case "png" -> "image/png";
+            case "gif" -> "image/gif";
+            default -> "application/octet-stream";
+        };
+    }
+
+    private static boolean startsWith(byte[] header, byte[] magic) {
+        return header.length >= magic.length && Arrays.equals(header, 0, magic.length, magic, 0, magic.length);
+    }
+}
@@ -0,0 +1,98 @@
+package jinviz.share_depot_be.config;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JDBC 연결 제한 DataSource 테스트
+ */
+class ConnectionGateDataSourceTest {
+
+    private static final int PERMITS = 10;
+
+    @Test
+    void boundsConcurrentConnections() throws Exception {
+        StubDataSource stub = new StubDataSource();
+        ConnectionGateDataSource gate = new ConnectionGateDataSource(stub.proxy(), PERMITS, 10_000);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                futures.add(executor.submit(() -> query(gate, 2)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertTrue(stub.maxOpen.get() <= PERMITS, "max open connections: " + stub.maxOpen.get());
+        assertEquals(PERMITS, gate.getAvailablePermits());
+    }
+
+    @Test
+    void releasesPermitOnceAndFailsFastWhenExhausted() throws SQLException {
+        ConnectionGateDataSource gate = new ConnectionGateDataSource(new StubDataSource().proxy(), 1, 50);
+
+        Connection connection = gate.getConnection();
+        assertThrows(SQLTransientConnectionException.class, gate::getConnection);
+
+        connection.close();
+        connection.close();
+        assertEquals(1, gate.getAvailablePermits());
+    }
+
+    private static Void query(DataSource dataSource, long millis) throws SQLException, InterruptedException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.isValid(0);
+            Thread.sleep(millis);
+        }
+        return null;
+    }
+
+    /**
+     * 열린 연결 수를 세는 DataSource
+     */
+    private static class StubDataSource {
+
+        private final AtomicInteger open = new AtomicInteger();
+        private final AtomicInteger maxOpen = new AtomicInteger();
+
+        DataSource proxy() {
+            return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("getConnection")) {
+                            maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+                            return connection();
+                        }
+                        return null;
+                    });
+        }
+
+        private Connection connection() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "close" -> {
+                            open.decrementAndGet();
+                            yield null;
+                        }
+                        case "isValid" -> true;
+                        default -> null;
+                    });
+        }
+    }
+}